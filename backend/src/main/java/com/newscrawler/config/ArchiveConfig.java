@@ -0,0 +1,14 @@
+package com.newscrawler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "archive")
+@Data
+public class ArchiveConfig {
+    
+    private boolean enabled = true;
+    private String directory = "./archive"; // dt=YYYY-MM-DD/articles.ndjson.gz 형태로 저장
+}
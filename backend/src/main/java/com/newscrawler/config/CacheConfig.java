@@ -0,0 +1,13 @@
+package com.newscrawler.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ARTICLE_CATEGORIES = "articleCategories";
+    public static final String ARTICLE_SOURCES = "articleSources";
+    public static final String SOURCE_CATEGORIES = "sourceCategories";
+}
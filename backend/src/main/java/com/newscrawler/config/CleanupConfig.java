@@ -0,0 +1,17 @@
+package com.newscrawler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cleanup")
+@Data
+public class CleanupConfig {
+    
+    private int keepDays = 30;
+    private int chunkSize = 500; // 한 트랜잭션에서 삭제할 최대 기사 수
+    private long chunkPauseMs = 100; // 청크 사이 대기 시간 (읽기 API와의 잠금 경합 완화)
+    private int maxTrackedDeletedIds = 50_000; // 삭제 이벤트에 담을 최대 기사 ID 수 (넘으면 ID 없이 발행해 색인 재구성)
+    private int partitionMonthsAhead = 3; // 미리 생성할 월별 파티션 수 (PostgreSQL 파티션 테이블 전용)
+}
@@ -0,0 +1,18 @@
+package com.newscrawler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "ingest.buffer")
+@Data
+public class IngestBufferConfig {
+    
+    private boolean enabled = true;
+    private int capacity = 5000; // 큐가 가득 차면 크롤러 스레드가 대기 (배압)
+    private int batchSize = 200; // 이 개수가 모이면 즉시 저장
+    private long flushIntervalMs = 2000; // 또는 첫 기사 적재 후 이 시간이 지나면 저장
+    private boolean journalEnabled = true;
+    private String journalDirectory = "./journal"; // 저장 전 기사 NDJSON 저널 (재시작 시 재적재)
+}
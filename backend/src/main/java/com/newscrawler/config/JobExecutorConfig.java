@@ -0,0 +1,15 @@
+package com.newscrawler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "jobs")
+@Data
+public class JobExecutorConfig {
+    
+    private int poolSize = 2; // 동시에 실행할 장시간 작업 수 (크롤링/영상 생성)
+    private int queueCapacity = 10; // 초과 요청은 503으로 거절
+    private long responseTimeoutMs = 600000; // 이 시간이 지나면 202로 응답하고 작업은 계속 진행
+}
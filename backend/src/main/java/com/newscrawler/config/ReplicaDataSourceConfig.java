@@ -0,0 +1,24 @@
+package com.newscrawler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica")
+@Data
+public class ReplicaDataSourceConfig {
+    
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private int maximumPoolSize = 5; // 읽기 전용 풀 크기 (쓰기 풀은 spring.datasource.hikari.maximum-pool-size)
+    private long maxLagSeconds = 10; // 이보다 지연되면 읽기도 primary로 보냄
+    private long lagCheckIntervalMs = 5000;
+    // 받은 WAL을 모두 재생했으면 0 (primary에 쓰기가 없으면 마지막 재생 시각이 오래되어도 지연이 아님),
+    // 재생할 WAL이 남아 있을 때만 마지막 재생 트랜잭션 이후 경과 시간을 지연으로 봄
+    private String lagQuery = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0) END";
+}
@@ -0,0 +1,52 @@
+package com.newscrawler.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 복제본 지연 감시
+ * 지연이 허용치를 넘거나 조회에 실패하면 복제본을 사용하지 않도록 표시 (읽기도 primary로 전환)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaDataSourceConfig replicaConfig;
+
+    private volatile boolean replicaUsable; // 첫 지연 확인이 성공하기 전에는 primary만 사용
+    private volatile double lastLagSeconds;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaDataSourceConfig replicaConfig) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaConfig = replicaConfig;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public double getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(replicaConfig.getLagQuery(), Double.class);
+            lastLagSeconds = lag != null ? lag : 0;
+            usable = lastLagSeconds <= replicaConfig.getMaxLagSeconds();
+        } catch (Exception e) {
+            log.warn("복제본 지연 확인 실패: {}", e.getMessage());
+            usable = false;
+        }
+
+        if (usable != replicaUsable) {
+            log.warn("복제본 사용 여부 변경: {} (지연 {}초)", usable, lastLagSeconds);
+        }
+        replicaUsable = usable;
+    }
+}
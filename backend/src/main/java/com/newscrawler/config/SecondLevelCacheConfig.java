@@ -0,0 +1,76 @@
+package com.newscrawler.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.Data;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 설정 (cache.second-level.enabled=true일 때만 적용)
+ * - article: 기사 엔티티 (ID 조회)
+ * - article-listings: 오늘/카테고리/출처별 목록 쿼리 결과
+ * 적중률: /actuator/metrics/hibernate.second.level.cache.requests, hibernate.cache.query.requests
+ */
+@Configuration
+@ConfigurationProperties(prefix = "cache.second-level")
+@Data
+public class SecondLevelCacheConfig {
+
+    public static final String ARTICLE_REGION = "article";
+    public static final String ARTICLE_LISTINGS_REGION = "article-listings";
+
+    private boolean enabled = false;
+    private long articleMaxEntries = 10000;
+    private Duration articleTtl = Duration.ofMinutes(30);
+    private long listingMaxEntries = 1000;
+    private Duration listingTtl = Duration.ofMinutes(5);
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.second-level", name = "enabled", havingValue = "true")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        createCache(cacheManager, ARTICLE_REGION, articleMaxEntries, articleTtl);
+        createCache(cacheManager, ARTICLE_LISTINGS_REGION, listingMaxEntries, listingTtl);
+        createCache(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, listingMaxEntries, listingTtl);
+        // 테이블별 마지막 변경 시각 (쿼리 캐시 무효화 기준이므로 만료/축출 없음)
+        createCache(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 0, null);
+        return cacheManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.second-level", name = "enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static void createCache(CacheManager cacheManager, String name, long maxEntries, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxEntries > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,19 @@
+package com.newscrawler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "snapshot")
+@Data
+public class SnapshotConfig {
+    
+    private boolean enabled = true;
+    private int pages = 3; // 목록별로 미리 만들어 둘 앞쪽 페이지 수
+    private int pageSize = 20; // 이 size로 요청해야 스냅샷이 사용됨 (컨트롤러 기본값과 같게 유지)
+    private List<Integer> summaryMaxChars = List.of(0); // 미리 만들 요약 길이 (0 = 전체), 요청 값과 정확히 같아야 사용됨
+    private long rebuildDelayMs = 1000; // 연속된 저장 이벤트를 모아 한 번만 재생성
+}
@@ -0,0 +1,19 @@
+package com.newscrawler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "stream")
+@Data
+public class StreamConfig {
+    
+    private int bufferSize = 1000; // Last-Event-ID 재개용으로 보관할 최근 이벤트 수
+    private int maxSubscribers = 5000;
+    private long timeoutMs = 1800000; // 연결 유지 시간 (만료 시 브라우저 EventSource가 자동 재연결)
+    private long heartbeatMs = 25000; // 프록시 유휴 연결 종료 방지 및 끊긴 연결 정리
+    private int subscriberQueueSize = 256; // 구독자별 전송 대기열 (가득 차면 느린 구독자로 보고 연결 종료)
+    private int senderThreads = 4; // 구독자 대기열을 비우는 전송 스레드 수
+    private long sendTimeoutMs = 10000; // 한 번의 전송이 이 시간을 넘기면 느린 구독자로 보고 연결 종료
+}
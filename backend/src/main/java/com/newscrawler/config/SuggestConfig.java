@@ -0,0 +1,18 @@
+package com.newscrawler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "suggest")
+@Data
+public class SuggestConfig {
+    
+    private boolean enabled = true;
+    private int maxTerms = 50000; // 트라이에 넣을 최대 용어 수 (메모리 상한)
+    private int maxLimit = 10; // 노드마다 미리 계산해 두는 상위 후보 수 = 한 번에 반환할 수 있는 최대 개수
+    private int windowDays = 30; // 시작 시 용어를 채울 최근 기사 기간
+    private double halfLifeHours = 72.0; // 용어 점수가 절반으로 줄어드는 시간 (최신성 가중치)
+    private long rebuildDelayMs = 2000; // 크롤링 저장 후 재생성까지 대기 (연속 저장을 한 번으로 묶음)
+}
@@ -0,0 +1,15 @@
+package com.newscrawler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "trending")
+@Data
+public class TrendingConfig {
+    
+    private boolean enabled = true;
+    private int countersPerBucket = 500; // 1시간 구간마다 유지할 Space-Saving 카운터 수 (메모리 상한)
+    private int maxLimit = 100; // 한 번에 반환할 수 있는 최대 키워드 수
+}
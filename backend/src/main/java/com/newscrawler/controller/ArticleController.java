@@ -1,16 +1,41 @@
 package com.newscrawler.controller;
 
+import com.newscrawler.dto.ArticleBatchRequest;
+import com.newscrawler.dto.ArticleFacetsResponse;
+import com.newscrawler.dto.ArticleField;
 import com.newscrawler.dto.ArticleResponseDto;
 import com.newscrawler.dto.ArticlesResponse;
+import com.newscrawler.search.RelatedArticleIndex;
+import com.newscrawler.service.ArticleDataVersion;
+import com.newscrawler.service.ArticleExportService;
+import com.newscrawler.service.ArticleFacetService;
 import com.newscrawler.service.ArticleService;
+import com.newscrawler.service.ArticleSnapshotService;
+import com.newscrawler.service.ArticleStreamBroadcaster;
+import com.newscrawler.service.SearchSuggestService;
+import com.newscrawler.service.TrendingKeywordService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/articles")
@@ -18,24 +43,49 @@ import java.util.List;
 @Slf4j
 public class ArticleController {
 
+    private static final int MAX_BATCH_IDS = 1000;
+    private static final int MAX_RELATED = 50;
+
     private final ArticleService articleService;
+    private final ArticleFacetService articleFacetService;
+    private final ArticleExportService articleExportService;
+    private final ArticleDataVersion articleDataVersion;
+    private final ArticleSnapshotService articleSnapshotService;
+    private final ArticleStreamBroadcaster articleStreamBroadcaster;
+    private final TrendingKeywordService trendingKeywordService;
+    private final RelatedArticleIndex relatedArticleIndex;
+    private final SearchSuggestService searchSuggestService;
 
     /**
      * 오늘의 기사 조회
-     * GET /api/articles/today
+     * GET /api/articles/today?summaryMaxChars=100&fields=title,imageUrl
      */
     @GetMapping("/today")
-    public ResponseEntity<ArticlesResponse> getTodaysArticles(
+    public ResponseEntity<?> getTodaysArticles(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "0") int summaryMaxChars,
+            @RequestParam(required = false) String fields,
+            ServletWebRequest webRequest) {
         
+        if (notModified(webRequest)) {
+            return null;
+        }
+        if (fields != null) {
+            return fieldsResponse(fields, selected ->
+                    articleService.getArticleFields(null, null, page, size, summaryMaxChars, selected));
+        }
+        ArticleSnapshotService.Snapshot snapshot = articleSnapshotService.find(null, null, page, size, summaryMaxChars);
+        if (snapshot != null) {
+            return snapshotResponse(snapshot, webRequest);
+        }
         log.info("오늘의 기사 조회 요청 - page: {}, size: {}", page, size);
         
         ArticlesResponse response = size > 0 ? 
-                articleService.getTodaysArticles(page, size) : 
-                articleService.getTodaysArticles();
+                articleService.getTodaysArticles(page, size, summaryMaxChars) : 
+                articleService.getTodaysArticles(summaryMaxChars);
         
-        return ResponseEntity.ok(response);
+        return revalidated(response);
     }
 
     /**
@@ -56,48 +106,243 @@ public class ArticleController {
 
     /**
      * 필터링된 기사 조회
-     * GET /api/articles?category=IT&source=네이버뉴스
+     * GET /api/articles?category=IT&source=네이버뉴스&fields=title,imageUrl,publishedAt
      */
     @GetMapping
-    public ResponseEntity<ArticlesResponse> getFilteredArticles(
+    public ResponseEntity<?> getFilteredArticles(
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String source,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "0") int summaryMaxChars,
+            @RequestParam(required = false) String fields,
+            ServletWebRequest webRequest) {
         
+        if (notModified(webRequest)) {
+            return null;
+        }
+        if (fields != null) {
+            return fieldsResponse(fields, selected ->
+                    articleService.getArticleFields(category, source, page, size, summaryMaxChars, selected));
+        }
+        ArticleSnapshotService.Snapshot snapshot = articleSnapshotService.find(category, source, page, size, summaryMaxChars);
+        if (snapshot != null) {
+            return snapshotResponse(snapshot, webRequest);
+        }
         log.info("필터링된 기사 조회 - category: {}, source: {}, page: {}, size: {}", 
                 category, source, page, size);
         
         ArticlesResponse response;
         
         if (category != null && source != null) {
-            response = articleService.getArticlesByCategoryAndSource(category, source, page, size);
+            response = articleService.getArticlesByCategoryAndSource(category, source, page, size, summaryMaxChars);
         } else if (category != null) {
-            response = articleService.getArticlesByCategory(category, page, size);
+            response = articleService.getArticlesByCategory(category, page, size, summaryMaxChars);
         } else if (source != null) {
-            response = articleService.getArticlesBySource(source, page, size);
+            response = articleService.getArticlesBySource(source, page, size, summaryMaxChars);
         } else {
-            response = articleService.getTodaysArticles(page, size);
+            response = articleService.getTodaysArticles(page, size, summaryMaxChars);
         }
         
-        return ResponseEntity.ok(response);
+        return revalidated(response);
     }
 
     /**
      * 기간별 기사 조회
-     * GET /api/articles/range?start=2024-01-01T00:00:00&end=2024-01-31T23:59:59
+     * GET /api/articles/range?start=2024-01-01T00:00:00&end=2024-01-31T23:59:59&summaryMaxChars=100&fields=title,link
      */
     @GetMapping("/range")
-    public ResponseEntity<ArticlesResponse> getArticlesByDateRange(
+    public ResponseEntity<?> getArticlesByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "0") int summaryMaxChars,
+            @RequestParam(required = false) String fields,
+            ServletWebRequest webRequest) {
         
-        log.info("기간별 기사 조회 - start: {}, end: {}, page: {}, size: {}", start, end, page, size);
+        if (notModified(webRequest)) {
+            return null;
+        }
+        log.info("기간별 기사 조회 - start: {}, end: {}, page: {}, size: {}, fields: {}", start, end, page, size, fields);
         
-        ArticlesResponse response = articleService.getArticlesByDateRange(start, end, page, size);
-        return ResponseEntity.ok(response);
+        try {
+            if (fields != null) {
+                return fieldsResponse(fields, selected ->
+                        articleService.getArticlesByDateRange(start, end, page, size, summaryMaxChars, selected));
+            }
+            ArticlesResponse response = articleService.getArticlesByDateRange(start, end, page, size, summaryMaxChars, null);
+            return revalidated(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * 기사 NDJSON 내보내기 (한 줄에 기사 하나, ID 순)
+     * GET /api/articles/export?since=2024-01-01T00:00:00&until=2024-02-01T00:00:00&source=네이버뉴스&gzip=true
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportArticles(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until,
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        
+        log.info("기사 내보내기 요청 - since: {}, until: {}, source: {}, category: {}, gzip: {}", 
+                since, until, source, category, gzip);
+        
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                articleExportService.export(since, until, source, category, gzipOut);
+                gzipOut.finish();
+            } else {
+                articleExportService.export(since, until, source, category, out);
+            }
+            out.flush();
+        };
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"));
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * 새로 수집된 기사 실시간 구독 (Server-Sent Events, 이벤트 이름: article)
+     * GET /api/articles/stream?category=정치&source=네이버뉴스
+     * 재연결 시 Last-Event-ID 헤더가 있으면 최근 버퍼에서 놓친 기사부터 전송
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamArticles(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String source,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        
+        log.debug("기사 스트림 구독 - category: {}, source: {}, lastEventId: {}", category, source, lastEventId);
+        
+        try {
+            SseEmitter emitter = articleStreamBroadcaster.subscribe(category, source, parseEventId(lastEventId));
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no")
+                    .body(emitter);
+        } catch (IllegalStateException e) {
+            log.warn("기사 스트림 구독 거부: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    /**
+     * 필터 사이드바용 카테고리/출처/날짜별 기사 수 (메모리 집계, DB 조회 없음)
+     * GET /api/articles/facets?from=2024-01-01&to=2024-01-31&source=네이버뉴스&cells=true
+     * 기간을 생략하면 최근 7일
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ArticleFacetsResponse> getFacets(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String source,
+            @RequestParam(defaultValue = "false") boolean cells) {
+        
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(6);
+        
+        return ResponseEntity.ok(articleFacetService.getFacets(start, end, category, source, cells));
+    }
+
+    /**
+     * 최근 화제어 (수집 시 증분 집계한 요약에서 조회)
+     * GET /api/articles/trending?window=24h&limit=20 (window: 1h, 24h, 7d)
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<Map<String, Object>> getTrendingKeywords(
+            @RequestParam(defaultValue = "24h") String window,
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        TrendingKeywordService.Window resolved;
+        try {
+            resolved = TrendingKeywordService.Window.fromLabel(window);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+            ));
+        }
+        
+        return ResponseEntity.ok(Map.of(
+                "window", resolved.getLabel(),
+                "keywords", trendingKeywordService.getTrending(resolved, limit)
+        ));
+    }
+
+    /**
+     * 검색어 자동완성 (제목 단어/구, 빈도와 최신성 점수순)
+     * GET /api/articles/suggest?prefix=삼성&limit=10
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<Map<String, Object>> suggest(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        return ResponseEntity.ok(Map.of(
+                "prefix", prefix,
+                "suggestions", searchSuggestService.suggest(prefix, limit)
+        ));
+    }
+
+    /**
+     * 여러 기사 일괄 조회 (요청 순서 유지, 없는 ID는 missingIds로 반환)
+     * GET /api/articles/batch?ids=1,2,3&summaryMaxChars=100
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<?> getArticlesByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(defaultValue = "0") int summaryMaxChars) {
+        
+        return batchResponse(ids, summaryMaxChars);
+    }
+
+    /**
+     * 여러 기사 일괄 조회 (ID가 많아 URL 길이 제한에 걸리는 경우)
+     * POST /api/articles/batch {"ids": [1, 2, 3], "summaryMaxChars": 100}
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> getArticlesByIds(@RequestBody ArticleBatchRequest request) {
+        return batchResponse(request.getIds() != null ? request.getIds() : List.of(), request.getSummaryMaxChars());
+    }
+
+    /**
+     * 관련 기사 조회 (제목/요약이 비슷한 다른 출처의 기사, MinHash 인메모리 색인)
+     * GET /api/articles/{id}/related?limit=10&minSimilarity=0.3&sameSource=false
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<?> getRelatedArticles(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "0.3") double minSimilarity,
+            @RequestParam(defaultValue = "false") boolean sameSource,
+            @RequestParam(defaultValue = "0") int summaryMaxChars) {
+        
+        log.info("관련 기사 조회 - id: {}, limit: {}", id, limit);
+        
+        if (!relatedArticleIndex.isReady()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                    "success", false,
+                    "message", "관련 기사 색인을 준비 중입니다. 잠시 후 다시 시도하세요."
+            ));
+        }
+        
+        int resolvedLimit = Math.max(1, Math.min(limit, MAX_RELATED));
+        return ResponseEntity.ok(articleService.getRelatedArticles(
+                id, resolvedLimit, minSimilarity, sameSource, summaryMaxChars));
     }
 
     /**
@@ -147,4 +392,120 @@ public class ArticleController {
         List<String> categories = articleService.getCategoriesBySource(source);
         return ResponseEntity.ok(categories);
     }
+
+    /**
+     * 데이터 버전 기준 조건부 요청 처리 (If-None-Match/If-Modified-Since가 맞으면 DB 조회 없이 304)
+     * 응답의 ETag/Last-Modified 헤더도 함께 설정됨
+     * 오늘 목록은 날짜가 바뀌면 내용이 달라지므로 날짜를 ETag에 포함
+     */
+    private boolean notModified(ServletWebRequest webRequest) {
+        HttpServletRequest request = webRequest.getRequest();
+        String eTag = articleDataVersion.eTag(request.getRequestURI(), request.getQueryString(), LocalDate.now().toString(),
+                acceptsGzip(webRequest) ? "gzip" : "identity");
+        return webRequest.checkNotModified(eTag, articleDataVersion.getLastModifiedMillis());
+    }
+
+    /**
+     * 미리 직렬화/압축해 둔 스냅샷 바이트를 그대로 응답
+     */
+    private ResponseEntity<byte[]> snapshotResponse(ArticleSnapshotService.Snapshot snapshot, ServletWebRequest webRequest) {
+        boolean gzip = acceptsGzip(webRequest);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? snapshot.gzip() : snapshot.json());
+    }
+
+    private ResponseEntity<?> batchResponse(List<Long> ids, int summaryMaxChars) {
+        log.info("기사 일괄 조회 - {}개", ids.size());
+        
+        if (ids.size() > MAX_BATCH_IDS) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", "한 번에 조회할 수 있는 기사는 최대 " + MAX_BATCH_IDS + "개입니다."
+            ));
+        }
+        return ResponseEntity.ok(articleService.getArticlesByIds(ids, summaryMaxChars));
+    }
+
+    /**
+     * fields= 파라미터를 해석해 선택한 필드만 조회 (알 수 없는 필드는 400)
+     */
+    private ResponseEntity<?> fieldsResponse(String fields, Function<Set<ArticleField>, ArticlesResponse> query) {
+        Set<ArticleField> selected;
+        try {
+            selected = ArticleField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "success", false,
+                    "message", e.getMessage()
+            ));
+        }
+        log.info("선택 필드 기사 조회 - fields: {}", fields);
+        return revalidated(query.apply(selected));
+    }
+
+    /**
+     * Accept-Encoding의 q 값까지 해석해 gzip 허용 여부 판단
+     * gzip이 명시되면 그 q 값을, 없으면 * 의 q 값을 따름 (q=0은 거부)
+     */
+    private boolean acceptsGzip(ServletWebRequest webRequest) {
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    /**
+     * 브라우저/CDN이 매번 ETag로 재검증하도록 no-cache 지정
+     */
+    private <T> ResponseEntity<T> revalidated(T body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -1,10 +1,12 @@
 package com.newscrawler.controller;
 
+import com.newscrawler.service.BackgroundJobRunner;
 import com.newscrawler.service.CrawlerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.Map;
 
@@ -15,22 +17,33 @@ import java.util.Map;
 public class CrawlerController {
 
     private final CrawlerService crawlerService;
+    private final BackgroundJobRunner backgroundJobRunner;
 
     /**
      * 수동 크롤링 실행
      * POST /api/crawler/crawl
      */
     @PostMapping("/crawl")
-    public ResponseEntity<Map<String, Object>> manualCrawl() {
+    public DeferredResult<ResponseEntity<Map<String, Object>>> manualCrawl() {
         log.info("수동 크롤링 요청");
-        
+        return backgroundJobRunner.run("수동 크롤링", this::crawlAllSites);
+    }
+
+    private ResponseEntity<Map<String, Object>> crawlAllSites() {
         try {
-            int savedCount = crawlerService.crawlAllSites();
+            CrawlerService.CrawlOutcome outcome = crawlerService.crawlAllSites();
             
+            if (outcome.queued()) {
+                return ResponseEntity.ok(Map.of(
+                        "success", true,
+                        "message", "크롤링한 기사를 저장 대기열에 넣었습니다.",
+                        "queuedCount", outcome.count()
+                ));
+            }
             return ResponseEntity.ok(Map.of(
                     "success", true,
                     "message", "크롤링이 완료되었습니다.",
-                    "savedCount", savedCount
+                    "savedCount", outcome.count()
             ));
         } catch (Exception e) {
             log.error("수동 크롤링 실패: {}", e.getMessage());
@@ -47,12 +60,22 @@ public class CrawlerController {
      * POST /api/crawler/crawl/{source}
      */
     @PostMapping("/crawl/{source}")
-    public ResponseEntity<Map<String, Object>> crawlSpecificSource(@PathVariable String source) {
+    public DeferredResult<ResponseEntity<Map<String, Object>>> crawlSpecificSource(@PathVariable String source) {
         log.info("특정 소스 크롤링 요청 - source: {}", source);
-        
+        return backgroundJobRunner.run("특정 소스 크롤링", () -> crawlSource(source));
+    }
+
+    private ResponseEntity<Map<String, Object>> crawlSource(String source) {
         try {
             var articles = crawlerService.crawlSpecificSource(source);
             
+            if (crawlerService.isIngestBuffered()) {
+                return ResponseEntity.ok(Map.of(
+                        "success", true,
+                        "message", source + " 크롤링한 기사를 저장 대기열에 넣었습니다.",
+                        "queuedCount", articles.size()
+                ));
+            }
             return ResponseEntity.ok(Map.of(
                     "success", true,
                     "message", source + " 크롤링이 완료되었습니다.",
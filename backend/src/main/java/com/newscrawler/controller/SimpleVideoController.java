@@ -2,6 +2,7 @@ package com.newscrawler.controller;
 
 import com.newscrawler.entity.Article;
 import com.newscrawler.service.ArticleService;
+import com.newscrawler.service.BackgroundJobRunner;
 import com.newscrawler.service.SimpleVideoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.io.File;
 import java.nio.file.Files;
@@ -28,12 +30,17 @@ public class SimpleVideoController {
 
     private final SimpleVideoService simpleVideoService;
     private final ArticleService articleService;
+    private final BackgroundJobRunner backgroundJobRunner;
 
     /**
      * 간단한 TTS 테스트
      */
     @PostMapping("/test-tts")
-    public ResponseEntity<Map<String, Object>> testTTS(@RequestBody Map<String, String> request) {
+    public DeferredResult<ResponseEntity<Map<String, Object>>> testTTS(@RequestBody Map<String, String> request) {
+        return backgroundJobRunner.run("TTS 테스트", () -> runTtsTest(request));
+    }
+
+    private ResponseEntity<Map<String, Object>> runTtsTest(Map<String, String> request) {
         Map<String, Object> response = new HashMap<>();
         
         try {
@@ -93,7 +100,11 @@ public class SimpleVideoController {
      * 기사 → 스크립트 → TTS 전체 테스트
      */
     @PostMapping("/full-test/{articleId}")
-    public ResponseEntity<Map<String, Object>> fullTest(@PathVariable Long articleId) {
+    public DeferredResult<ResponseEntity<Map<String, Object>>> fullTest(@PathVariable Long articleId) {
+        return backgroundJobRunner.run("전체 테스트", () -> runFullTest(articleId));
+    }
+
+    private ResponseEntity<Map<String, Object>> runFullTest(Long articleId) {
         Map<String, Object> response = new HashMap<>();
         
         try {
@@ -161,7 +172,11 @@ public class SimpleVideoController {
      * 완전한 영상 생성 테스트 (기사 → 스크립트 → TTS → 영상)
      */
     @PostMapping("/generate-video/{articleId}")
-    public ResponseEntity<Map<String, Object>> generateCompleteVideo(@PathVariable Long articleId) {
+    public DeferredResult<ResponseEntity<Map<String, Object>>> generateCompleteVideo(@PathVariable Long articleId) {
+        return backgroundJobRunner.run("완전한 영상 생성", () -> runCompleteVideo(articleId));
+    }
+
+    private ResponseEntity<Map<String, Object>> runCompleteVideo(Long articleId) {
         Map<String, Object> response = new HashMap<>();
         
         try {
@@ -192,7 +207,11 @@ public class SimpleVideoController {
      * 오늘의 모든 기사로 영상 생성 (배치)
      */
     @PostMapping("/generate-videos/today")
-    public ResponseEntity<Map<String, Object>> generateVideosForTodayArticles() {
+    public DeferredResult<ResponseEntity<Map<String, Object>>> generateVideosForTodayArticles() {
+        return backgroundJobRunner.run("배치 영상 생성", this::runTodayVideos);
+    }
+
+    private ResponseEntity<Map<String, Object>> runTodayVideos() {
         Map<String, Object> response = new HashMap<>();
         
         try {
@@ -2,12 +2,14 @@ package com.newscrawler.controller;
 
 import com.newscrawler.entity.Article;
 import com.newscrawler.service.ArticleService;
+import com.newscrawler.service.BackgroundJobRunner;
 import com.newscrawler.service.VideoGenerationService;
 import com.newscrawler.service.YouTubeUploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.io.File;
 import java.util.HashMap;
@@ -23,12 +25,17 @@ public class VideoController {
     private final VideoGenerationService videoGenerationService;
     private final YouTubeUploadService youTubeUploadService;
     private final ArticleService articleService;
+    private final BackgroundJobRunner backgroundJobRunner;
 
     /**
      * 특정 기사로 영상 생성 및 YouTube 업로드
      */
     @PostMapping("/generate/{articleId}")
-    public ResponseEntity<Map<String, Object>> generateVideoForArticle(@PathVariable Long articleId) {
+    public DeferredResult<ResponseEntity<Map<String, Object>>> generateVideoForArticle(@PathVariable Long articleId) {
+        return backgroundJobRunner.run("영상 생성", () -> generateAndUpload(articleId));
+    }
+
+    private ResponseEntity<Map<String, Object>> generateAndUpload(Long articleId) {
         Map<String, Object> response = new HashMap<>();
         
         try {
@@ -83,7 +90,11 @@ public class VideoController {
      * 오늘의 모든 기사로 영상 생성 (배치)
      */
     @PostMapping("/generate/today")
-    public ResponseEntity<Map<String, Object>> generateVideosForTodayArticles() {
+    public DeferredResult<ResponseEntity<Map<String, Object>>> generateVideosForTodayArticles() {
+        return backgroundJobRunner.run("배치 영상 생성", this::generateAndUploadToday);
+    }
+
+    private ResponseEntity<Map<String, Object>> generateAndUploadToday() {
         Map<String, Object> response = new HashMap<>();
         
         try {
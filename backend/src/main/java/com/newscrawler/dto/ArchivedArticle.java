@@ -0,0 +1,74 @@
+package com.newscrawler.dto;
+
+import com.newscrawler.entity.Article;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 파일/수집 저널(NDJSON)에 기록되는 기사 한 줄
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedArticle {
+
+    private Long id;
+    private String title;
+    private String summary;
+    private String imageUrl;
+    private String source;
+    private String category;
+    private String link;
+    private LocalDateTime publishedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static ArchivedArticle from(Article article) {
+        return ArchivedArticle.builder()
+                .id(article.getId())
+                .title(article.getTitle())
+                .summary(article.getSummary())
+                .imageUrl(article.getImageUrl())
+                .source(article.getSource())
+                .category(article.getCategory())
+                .link(article.getLink())
+                .publishedAt(article.getPublishedAt())
+                .createdAt(article.getCreatedAt())
+                .updatedAt(article.getUpdatedAt())
+                .build();
+    }
+
+    public ArticleResponseDto toResponseDto() {
+        return ArticleResponseDto.builder()
+                .id(id)
+                .title(title)
+                .summary(summary)
+                .imageUrl(imageUrl)
+                .source(source)
+                .category(category)
+                .link(link)
+                .publishedAt(publishedAt)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    public Article toArticle() {
+        return Article.builder()
+                .id(id)
+                .title(title)
+                .summary(summary)
+                .imageUrl(imageUrl)
+                .source(source)
+                .category(category)
+                .link(link)
+                .publishedAt(publishedAt)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
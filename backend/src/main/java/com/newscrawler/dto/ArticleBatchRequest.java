@@ -0,0 +1,16 @@
+package com.newscrawler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleBatchRequest {
+    
+    private List<Long> ids;
+    private int summaryMaxChars;
+}
@@ -0,0 +1,20 @@
+package com.newscrawler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleBatchResponse {
+    
+    private int requestedCount;
+    private int foundCount;
+    private List<ArticleResponseDto> articles; // 요청한 ID 순서 (중복 ID는 한 번만)
+    private List<Long> missingIds; // 존재하지 않거나 이미 삭제된 ID
+}
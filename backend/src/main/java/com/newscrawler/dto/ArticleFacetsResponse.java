@@ -0,0 +1,28 @@
+package com.newscrawler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleFacetsResponse {
+    
+    private LocalDate from;
+    private LocalDate to;
+    private long totalCount;
+    private Map<String, Long> categories; // 기사 수 내림차순
+    private Map<String, Long> sources; // 기사 수 내림차순
+    private Map<LocalDate, Long> days; // 날짜순
+    private List<Cell> cells; // cells=true일 때만 (수집일 × 출처 × 카테고리)
+
+    public record Cell(LocalDate date, String source, String category, long count) {
+    }
+}
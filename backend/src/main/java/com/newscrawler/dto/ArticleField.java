@@ -0,0 +1,70 @@
+package com.newscrawler.dto;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 목록 API의 fields= 파라미터로 고를 수 있는 기사 필드
+ * JSON 키와 엔티티 속성 이름이 같으므로 조회 쿼리의 select 절에도 그대로 사용
+ */
+public enum ArticleField {
+
+    ID("id", ArticleResponseDto::getId),
+    TITLE("title", ArticleResponseDto::getTitle),
+    SUMMARY("summary", ArticleResponseDto::getSummary),
+    IMAGE_URL("imageUrl", ArticleResponseDto::getImageUrl),
+    SOURCE("source", ArticleResponseDto::getSource),
+    CATEGORY("category", ArticleResponseDto::getCategory),
+    LINK("link", ArticleResponseDto::getLink),
+    PUBLISHED_AT("publishedAt", ArticleResponseDto::getPublishedAt),
+    CREATED_AT("createdAt", ArticleResponseDto::getCreatedAt);
+
+    private final String fieldName;
+    private final Function<ArticleResponseDto, Object> accessor;
+
+    ArticleField(String fieldName, Function<ArticleResponseDto, Object> accessor) {
+        this.fieldName = fieldName;
+        this.accessor = accessor;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /**
+     * 쉼표로 구분된 필드 목록 해석 (id는 항상 포함, 알 수 없는 필드는 IllegalArgumentException)
+     */
+    public static Set<ArticleField> parse(String fields) {
+        Set<ArticleField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                parsed.add(fromName(trimmed));
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * DTO에서 선택한 필드만 꺼낸 행 (보관 파일 기사처럼 DB를 거치지 않는 결과용)
+     */
+    public static Map<String, Object> project(ArticleResponseDto article, Set<ArticleField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (ArticleField field : fields) {
+            row.put(field.fieldName, field.accessor.apply(article));
+        }
+        return row;
+    }
+
+    private static ArticleField fromName(String name) {
+        for (ArticleField field : values()) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 필드입니다: " + name);
+    }
+}
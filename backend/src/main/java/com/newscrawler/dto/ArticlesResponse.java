@@ -19,9 +19,9 @@ public class ArticlesResponse {
     private int totalCount;
     private int currentPage;
     private int totalPages;
-    private List<ArticleResponseDto> articles;
+    private List<?> articles; // ArticleResponseDto, fields= 지정 시 선택한 필드만 담은 Map
     
-    public static ArticlesResponse of(List<ArticleResponseDto> articles, LocalDate date) {
+    public static ArticlesResponse of(List<?> articles, LocalDate date) {
         return ArticlesResponse.builder()
                 .date(date)
                 .message("기사를 성공적으로 조회했습니다.")
@@ -32,7 +32,7 @@ public class ArticlesResponse {
                 .build();
     }
     
-    public static ArticlesResponse of(List<ArticleResponseDto> articles, LocalDate date, 
+    public static ArticlesResponse of(List<?> articles, LocalDate date, 
                                     int currentPage, int totalPages, int totalCount) {
         return ArticlesResponse.builder()
                 .date(date)
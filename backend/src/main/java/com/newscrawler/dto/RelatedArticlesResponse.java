@@ -0,0 +1,21 @@
+package com.newscrawler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedArticlesResponse {
+    
+    private Long articleId;
+    private List<RelatedArticle> related; // 추정 유사도 내림차순
+
+    public record RelatedArticle(ArticleResponseDto article, double similarity) {
+    }
+}
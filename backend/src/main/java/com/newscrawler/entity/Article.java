@@ -1,15 +1,27 @@
 package com.newscrawler.entity;
 
+import com.newscrawler.config.SecondLevelCacheConfig;
+import com.newscrawler.search.KoreanNgramTokenizer;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 @Entity
-@Table(name = "articles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.ARTICLE_REGION)
+@Table(name = "articles", indexes = @Index(name = "idx_articles_source_link", columnList = "source_id, link"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -29,10 +41,14 @@ public class Article {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
 
-    @Column(nullable = false, length = 100)
+    // sources 사전 id로 저장 (NOT NULL/FK 제약은 db/postgresql/dictionary-01-encode.sql)
+    @Convert(converter = SourceIdConverter.class)
+    @Column(name = "source_id")
     private String source;
 
-    @Column(nullable = false, length = 50)
+    // categories 사전 id로 저장
+    @Convert(converter = CategoryIdConverter.class)
+    @Column(name = "category_id")
     private String category;
 
     @Column(nullable = false, length = 500)
@@ -47,16 +63,53 @@ public class Article {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 검색용 바이그램 토큰 (PostgreSQL에서는 tsvector 생성 컬럼의 원본)
+    @Column(name = "search_tokens", columnDefinition = "TEXT")
+    @ToString.Exclude
+    private String searchTokens;
+
+    // 정규화한 제목/요약/이미지/카테고리의 SHA-256 (수집 시 변경 여부 판단용)
+    @Column(name = "content_hash", length = 64)
+    @ToString.Exclude
+    private String contentHash;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         if (publishedAt == null) {
             publishedAt = LocalDateTime.now();
         }
+        searchTokens = KoreanNgramTokenizer.toIndexText(title, summary);
+        contentHash = computeContentHash();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        searchTokens = KoreanNgramTokenizer.toIndexText(title, summary);
+        contentHash = computeContentHash();
+    }
+
+    /**
+     * 내용 해시 계산 (유니코드 정규화 + 공백 정리 후 비교하므로 표기만 다른 경우는 같은 내용으로 봄)
+     */
+    public String computeContentHash() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String field : new String[]{title, summary, imageUrl, category}) {
+                digest.update(normalizeForHash(field).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static String normalizeForHash(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC).replaceAll("\\s+", " ").trim();
     }
 }
@@ -0,0 +1,43 @@
+package com.newscrawler.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 수집일 × 출처 × 카테고리별 기사 수 집계
+ * 크롤링 저장/정리 삭제와 같은 트랜잭션에서 증감되며, 통계 API는 이 테이블만 조회함
+ * 출처/카테고리는 articles와 같이 사전 id로 저장
+ */
+@Entity
+@Table(name = "article_daily_stats",
+       uniqueConstraints = @UniqueConstraint(name = "uk_article_daily_stats",
+                                             columnNames = {"stat_date", "source_id", "category_id"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Convert(converter = SourceIdConverter.class)
+    @Column(name = "source_id", nullable = false)
+    private String source;
+
+    @Convert(converter = CategoryIdConverter.class)
+    @Column(name = "category_id", nullable = false)
+    private String category;
+
+    @Column(name = "article_count", nullable = false)
+    private long articleCount;
+}
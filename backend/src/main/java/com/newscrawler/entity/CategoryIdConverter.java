@@ -0,0 +1,26 @@
+package com.newscrawler.entity;
+
+import com.newscrawler.service.ArticleDictionaryService;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카테고리 이름 ↔ 사전 id 변환 (Hibernate가 Spring 빈으로 생성)
+ */
+@Converter
+@RequiredArgsConstructor
+public class CategoryIdConverter implements AttributeConverter<String, Short> {
+
+    private final ArticleDictionaryService dictionaryService;
+
+    @Override
+    public Short convertToDatabaseColumn(String name) {
+        return dictionaryService.idOf(ArticleDictionaryService.Kind.CATEGORY, name);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short id) {
+        return dictionaryService.nameOf(ArticleDictionaryService.Kind.CATEGORY, id);
+    }
+}
@@ -0,0 +1,7 @@
+package com.newscrawler.event;
+
+/**
+ * 다른 인스턴스의 수집/정리로 공유 데이터 버전이 바뀐 것을 이 인스턴스가 확인했을 때 발행되는 이벤트
+ */
+public record ArticleDataVersionChangedEvent(long version) {
+}
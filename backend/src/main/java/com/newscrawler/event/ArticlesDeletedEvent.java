@@ -0,0 +1,12 @@
+package com.newscrawler.event;
+
+/**
+ * 정리 작업이나 출처 삭제로 기사가 삭제되었을 때 발행되는 이벤트
+ * articleIds가 null이면 삭제된 기사를 특정할 수 없는 경우 (파티션 통째 삭제 등)
+ */
+public record ArticlesDeletedEvent(String reason, long deletedCount, long[] articleIds) {
+
+    public ArticlesDeletedEvent(String reason, long deletedCount) {
+        this(reason, deletedCount, null);
+    }
+}
@@ -0,0 +1,26 @@
+package com.newscrawler.event;
+
+import com.newscrawler.entity.Article;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크롤링으로 기사가 저장되었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 이후 리스너에서 처리되며, 기사 ID가 할당된 상태로 전달됨
+ * - inserted: 처음 저장된 기사, updated: 내용이 바뀌어 갱신된 기사
+ * - previousCategories: 갱신으로 카테고리가 바뀐 기사의 기사 ID → 이전 카테고리
+ */
+public record ArticlesSavedEvent(List<Article> inserted, List<Article> updated, Map<Long, String> previousCategories) {
+
+    /**
+     * 신규 + 갱신 기사 전체 (색인처럼 둘을 구분하지 않는 수신측용)
+     */
+    public List<Article> articles() {
+        List<Article> articles = new ArrayList<>(inserted.size() + updated.size());
+        articles.addAll(inserted);
+        articles.addAll(updated);
+        return articles;
+    }
+}
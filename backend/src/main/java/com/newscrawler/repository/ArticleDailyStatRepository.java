@@ -0,0 +1,50 @@
+package com.newscrawler.repository;
+
+import com.newscrawler.entity.ArticleDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ArticleDailyStatRepository extends JpaRepository<ArticleDailyStat, Long> {
+
+    // 집계 증감 (갱신된 행이 없으면 호출 측에서 새로 저장)
+    @Modifying
+    @Query("UPDATE ArticleDailyStat s SET s.articleCount = s.articleCount + :delta " +
+           "WHERE s.statDate = :statDate AND s.source = :source AND s.category = :category")
+    int addToCount(@Param("statDate") LocalDate statDate,
+                   @Param("source") String source,
+                   @Param("category") String category,
+                   @Param("delta") long delta);
+
+    // 전체 기사 수
+    @Query("SELECT COALESCE(SUM(s.articleCount), 0) FROM ArticleDailyStat s")
+    long sumArticleCount();
+
+    // 특정 날짜 이후 기사 수
+    @Query("SELECT COALESCE(SUM(s.articleCount), 0) FROM ArticleDailyStat s WHERE s.statDate >= :fromDate")
+    long sumArticleCountSince(@Param("fromDate") LocalDate fromDate);
+
+    // 특정 날짜 기사 수
+    @Query("SELECT COALESCE(SUM(s.articleCount), 0) FROM ArticleDailyStat s WHERE s.statDate = :statDate")
+    long sumArticleCountOn(@Param("statDate") LocalDate statDate);
+
+    // 수집 소스 목록 (id 순서이므로 이름 정렬은 호출 측에서)
+    @Query("SELECT DISTINCT s.source FROM ArticleDailyStat s")
+    List<String> findDistinctSources();
+
+    // 0 이하로 줄어든 집계 행 정리
+    @Modifying
+    @Query("DELETE FROM ArticleDailyStat s WHERE s.articleCount <= 0")
+    int deleteEmpty();
+
+    // 파티션 삭제 등으로 통째로 사라진 날짜 구간 정리
+    @Modifying
+    @Query("DELETE FROM ArticleDailyStat s WHERE s.statDate < :statDate")
+    int deleteByStatDateBefore(@Param("statDate") LocalDate statDate);
+}
@@ -0,0 +1,23 @@
+package com.newscrawler.repository;
+
+import com.newscrawler.dto.ArticleField;
+import com.newscrawler.entity.Article;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청한 필드만 select 절에 넣어 조회하는 목록 쿼리 (fields= 파라미터)
+ */
+public interface ArticleProjectionRepository {
+
+    /**
+     * 조건에 맞는 기사를 발행 시각 내림차순으로 조회해 필드 이름 → 값 행으로 반환
+     * 요약은 DB에서 summaryMaxChars 글자까지만 잘라서 가져옴 (0 이하면 자르지 않음)
+     */
+    Page<Map<String, Object>> findProjected(Specification<Article> spec, Set<ArticleField> fields,
+                                            int summaryMaxChars, Pageable pageable);
+}
@@ -0,0 +1,76 @@
+package com.newscrawler.repository;
+
+import com.newscrawler.dto.ArticleField;
+import com.newscrawler.entity.Article;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public class ArticleProjectionRepositoryImpl implements ArticleProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findProjected(Specification<Article> spec, Set<ArticleField> fields,
+                                                   int summaryMaxChars, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Article> root = query.from(Article.class);
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (ArticleField field : fields) {
+            Selection<?> selection = field == ArticleField.SUMMARY && summaryMaxChars > 0
+                    ? cb.substring(root.<String>get(field.getFieldName()), 1, summaryMaxChars)
+                    : root.get(field.getFieldName());
+            selections.add(selection.alias(field.getFieldName()));
+        }
+        query.multiselect(selections)
+                .where(spec.toPredicate(root, query, cb))
+                .orderBy(cb.desc(root.get("publishedAt")));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query).setHint(HINT_READ_ONLY, true);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (ArticleField field : fields) {
+                row.put(field.getFieldName(), tuple.get(field.getFieldName()));
+            }
+            rows.add(row);
+        }
+
+        if (pageable.isUnpaged() || (pageable.getOffset() == 0 && rows.size() < pageable.getPageSize())) {
+            return new PageImpl<>(rows, pageable, rows.size());
+        }
+        return new PageImpl<>(rows, pageable, count(spec));
+    }
+
+    private long count(Specification<Article> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Article> root = query.from(Article.class);
+        query.select(cb.count(root)).where(spec.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,67 +1,326 @@
 package com.newscrawler.repository;
 
+import com.newscrawler.config.SecondLevelCacheConfig;
+import com.newscrawler.dto.ArchivedArticle;
+import com.newscrawler.dto.ArticleResponseDto;
 import com.newscrawler.entity.Article;
+import com.newscrawler.search.IndexDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface ArticleRepository extends JpaRepository<Article, Long> {
+public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpecificationExecutor<Article>,
+        ArticleProjectionRepository {
+
+    // 목록 응답용 DTO 직접 생성 (영속성 컨텍스트를 거치지 않고 필요한 컬럼만 조회)
+    String ARTICLE_DTO_SELECT = "SELECT new com.newscrawler.dto.ArticleResponseDto(" +
+            "a.id, a.title, a.summary, a.imageUrl, " +
+            "a.source, a.category, a.link, a.publishedAt, a.createdAt) FROM Article a ";
+
+    // 요약을 DB에서 :summaryMaxChars 글자까지만 잘라 가져오는 DTO
+    // 목록 조회는 요약 전체용과 자르기용 쿼리를 쌍으로 두고, summaryMaxChars를 받는 default 메서드가 0 이하면 자르지 않는 쪽을 고름
+    String TRUNCATED_ARTICLE_DTO_SELECT = "SELECT new com.newscrawler.dto.ArticleResponseDto(" +
+            "a.id, a.title, SUBSTRING(a.summary, 1, :summaryMaxChars), a.imageUrl, " +
+            "a.source, a.category, a.link, a.publishedAt, a.createdAt) FROM Article a ";
 
     // 오늘 수집된 기사 조회
     @Query("SELECT a FROM Article a WHERE CAST(a.createdAt AS date) = CURRENT_DATE ORDER BY a.publishedAt DESC")
     List<Article> findTodaysArticles();
 
-    // 오늘 수집된 기사 페이징
-    @Query("SELECT a FROM Article a WHERE CAST(a.createdAt AS date) = CURRENT_DATE ORDER BY a.publishedAt DESC")
-    Page<Article> findTodaysArticles(Pageable pageable);
+    // 오늘 수집된 기사 DTO 페이징 (created_at 범위 조건으로 인덱스 사용 가능)
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SecondLevelCacheConfig.ARTICLE_LISTINGS_REGION)
+    })
+    @Query(value = ARTICLE_DTO_SELECT + "WHERE a.createdAt >= :start AND a.createdAt < :end ORDER BY a.publishedAt DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.createdAt >= :start AND a.createdAt < :end")
+    Page<ArticleResponseDto> findArticleDtosCreatedBetween(@Param("start") LocalDateTime start,
+                                                           @Param("end") LocalDateTime end,
+                                                           Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SecondLevelCacheConfig.ARTICLE_LISTINGS_REGION)
+    })
+    @Query(value = TRUNCATED_ARTICLE_DTO_SELECT + "WHERE a.createdAt >= :start AND a.createdAt < :end ORDER BY a.publishedAt DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.createdAt >= :start AND a.createdAt < :end")
+    Page<ArticleResponseDto> findTruncatedArticleDtosCreatedBetween(@Param("start") LocalDateTime start,
+                                                                    @Param("end") LocalDateTime end,
+                                                                    @Param("summaryMaxChars") int summaryMaxChars,
+                                                                    Pageable pageable);
+
+    default Page<ArticleResponseDto> findArticleDtosCreatedBetween(LocalDateTime start,
+                                                                   LocalDateTime end,
+                                                                   int summaryMaxChars,
+                                                                   Pageable pageable) {
+        return summaryMaxChars > 0
+                ? findTruncatedArticleDtosCreatedBetween(start, end, summaryMaxChars, pageable)
+                : findArticleDtosCreatedBetween(start, end, pageable);
+    }
+
+    // 오늘 수집된 기사 DTO 전체
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SecondLevelCacheConfig.ARTICLE_LISTINGS_REGION)
+    })
+    @Query(ARTICLE_DTO_SELECT + "WHERE a.createdAt >= :start AND a.createdAt < :end ORDER BY a.publishedAt DESC")
+    List<ArticleResponseDto> findArticleDtosCreatedBetween(@Param("start") LocalDateTime start,
+                                                           @Param("end") LocalDateTime end);
+
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SecondLevelCacheConfig.ARTICLE_LISTINGS_REGION)
+    })
+    @Query(TRUNCATED_ARTICLE_DTO_SELECT + "WHERE a.createdAt >= :start AND a.createdAt < :end ORDER BY a.publishedAt DESC")
+    List<ArticleResponseDto> findTruncatedArticleDtosCreatedBetween(@Param("start") LocalDateTime start,
+                                                                    @Param("end") LocalDateTime end,
+                                                                    @Param("summaryMaxChars") int summaryMaxChars);
+
+    default List<ArticleResponseDto> findArticleDtosCreatedBetween(LocalDateTime start,
+                                                                   LocalDateTime end,
+                                                                   int summaryMaxChars) {
+        return summaryMaxChars > 0
+                ? findTruncatedArticleDtosCreatedBetween(start, end, summaryMaxChars)
+                : findArticleDtosCreatedBetween(start, end);
+    }
+
+    // 카테고리별 기사 DTO
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SecondLevelCacheConfig.ARTICLE_LISTINGS_REGION)
+    })
+    @Query(value = ARTICLE_DTO_SELECT + "WHERE a.category = :category ORDER BY a.publishedAt DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.category = :category")
+    Page<ArticleResponseDto> findArticleDtosByCategory(@Param("category") String category,
+                                                       Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SecondLevelCacheConfig.ARTICLE_LISTINGS_REGION)
+    })
+    @Query(value = TRUNCATED_ARTICLE_DTO_SELECT + "WHERE a.category = :category ORDER BY a.publishedAt DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.category = :category")
+    Page<ArticleResponseDto> findTruncatedArticleDtosByCategory(@Param("category") String category,
+                                                                @Param("summaryMaxChars") int summaryMaxChars,
+                                                                Pageable pageable);
+
+    default Page<ArticleResponseDto> findArticleDtosByCategory(String category,
+                                                               int summaryMaxChars,
+                                                               Pageable pageable) {
+        return summaryMaxChars > 0
+                ? findTruncatedArticleDtosByCategory(category, summaryMaxChars, pageable)
+                : findArticleDtosByCategory(category, pageable);
+    }
+
+    // 출처별 기사 DTO
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SecondLevelCacheConfig.ARTICLE_LISTINGS_REGION)
+    })
+    @Query(value = ARTICLE_DTO_SELECT + "WHERE a.source = :source ORDER BY a.publishedAt DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.source = :source")
+    Page<ArticleResponseDto> findArticleDtosBySource(@Param("source") String source,
+                                                     Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SecondLevelCacheConfig.ARTICLE_LISTINGS_REGION)
+    })
+    @Query(value = TRUNCATED_ARTICLE_DTO_SELECT + "WHERE a.source = :source ORDER BY a.publishedAt DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.source = :source")
+    Page<ArticleResponseDto> findTruncatedArticleDtosBySource(@Param("source") String source,
+                                                              @Param("summaryMaxChars") int summaryMaxChars,
+                                                              Pageable pageable);
+
+    default Page<ArticleResponseDto> findArticleDtosBySource(String source,
+                                                             int summaryMaxChars,
+                                                             Pageable pageable) {
+        return summaryMaxChars > 0
+                ? findTruncatedArticleDtosBySource(source, summaryMaxChars, pageable)
+                : findArticleDtosBySource(source, pageable);
+    }
+
+    // 카테고리와 출처로 필터링한 기사 DTO
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SecondLevelCacheConfig.ARTICLE_LISTINGS_REGION)
+    })
+    @Query(value = ARTICLE_DTO_SELECT + "WHERE a.category = :category AND a.source = :source ORDER BY a.publishedAt DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.category = :category AND a.source = :source")
+    Page<ArticleResponseDto> findArticleDtosByCategoryAndSource(@Param("category") String category,
+                                                                @Param("source") String source,
+                                                                Pageable pageable);
 
-    // 카테고리별 기사 조회
-    Page<Article> findByCategoryOrderByPublishedAtDesc(String category, Pageable pageable);
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = SecondLevelCacheConfig.ARTICLE_LISTINGS_REGION)
+    })
+    @Query(value = TRUNCATED_ARTICLE_DTO_SELECT + "WHERE a.category = :category AND a.source = :source ORDER BY a.publishedAt DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.category = :category AND a.source = :source")
+    Page<ArticleResponseDto> findTruncatedArticleDtosByCategoryAndSource(@Param("category") String category,
+                                                                         @Param("source") String source,
+                                                                         @Param("summaryMaxChars") int summaryMaxChars,
+                                                                         Pageable pageable);
 
-    // 출처별 기사 조회
-    Page<Article> findBySourceOrderByPublishedAtDesc(String source, Pageable pageable);
+    default Page<ArticleResponseDto> findArticleDtosByCategoryAndSource(String category,
+                                                                        String source,
+                                                                        int summaryMaxChars,
+                                                                        Pageable pageable) {
+        return summaryMaxChars > 0
+                ? findTruncatedArticleDtosByCategoryAndSource(category, source, summaryMaxChars, pageable)
+                : findArticleDtosByCategoryAndSource(category, source, pageable);
+    }
 
-    // 카테고리와 출처로 필터링
-    Page<Article> findByCategoryAndSourceOrderByPublishedAtDesc(String category, String source, Pageable pageable);
+    // 특정 기간 기사 DTO
+    // 보관 기사와 병합하므로 정렬 순서를 ArticleArchiveService.NEWEST_FIRST와 맞춤 (NULL은 뒤로, 같으면 ID 내림차순)
+    @Query(value = ARTICLE_DTO_SELECT + "WHERE a.createdAt BETWEEN :startDate AND :endDate " +
+                   "ORDER BY a.publishedAt DESC NULLS LAST, a.id DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.createdAt BETWEEN :startDate AND :endDate")
+    Page<ArticleResponseDto> findArticleDtosByDateRange(@Param("startDate") LocalDateTime startDate,
+                                                        @Param("endDate") LocalDateTime endDate,
+                                                        Pageable pageable);
+
+    @Query(value = TRUNCATED_ARTICLE_DTO_SELECT + "WHERE a.createdAt BETWEEN :startDate AND :endDate " +
+                   "ORDER BY a.publishedAt DESC NULLS LAST, a.id DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.createdAt BETWEEN :startDate AND :endDate")
+    Page<ArticleResponseDto> findTruncatedArticleDtosByDateRange(@Param("startDate") LocalDateTime startDate,
+                                                                 @Param("endDate") LocalDateTime endDate,
+                                                                 @Param("summaryMaxChars") int summaryMaxChars,
+                                                                 Pageable pageable);
+
+    default Page<ArticleResponseDto> findArticleDtosByDateRange(LocalDateTime startDate,
+                                                                LocalDateTime endDate,
+                                                                int summaryMaxChars,
+                                                                Pageable pageable) {
+        return summaryMaxChars > 0
+                ? findTruncatedArticleDtosByDateRange(startDate, endDate, summaryMaxChars, pageable)
+                : findArticleDtosByDateRange(startDate, endDate, pageable);
+    }
+
+    // ID 목록으로 기사 DTO 일괄 조회 (순서는 호출 측에서 요청 순서로 맞춤)
+    @Query(ARTICLE_DTO_SELECT + "WHERE a.id IN :ids")
+    List<ArticleResponseDto> findArticleDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(TRUNCATED_ARTICLE_DTO_SELECT + "WHERE a.id IN :ids")
+    List<ArticleResponseDto> findTruncatedArticleDtosByIdIn(@Param("ids") Collection<Long> ids,
+                                                            @Param("summaryMaxChars") int summaryMaxChars);
+
+    default List<ArticleResponseDto> findArticleDtosByIdIn(Collection<Long> ids,
+                                                           int summaryMaxChars) {
+        return summaryMaxChars > 0
+                ? findTruncatedArticleDtosByIdIn(ids, summaryMaxChars)
+                : findArticleDtosByIdIn(ids);
+    }
+
+    // 특정 시각 이후 수집된 기사 DTO를 ID 순으로 (인메모리 집계/색인 시작 시 재구성용 키셋 페이징)
+    @Query(ARTICLE_DTO_SELECT + "WHERE a.createdAt >= :since AND a.id > :afterId ORDER BY a.id")
+    List<ArticleResponseDto> findArticleDtosCreatedSince(@Param("since") LocalDateTime since,
+                                                         @Param("afterId") Long afterId,
+                                                         Pageable pageable);
+
+    // 제목만 필요한 재구성용 (요약을 짧게 잘라 전송량을 줄임)
+    @Query(TRUNCATED_ARTICLE_DTO_SELECT + "WHERE a.createdAt >= :since AND a.id > :afterId ORDER BY a.id")
+    List<ArticleResponseDto> findTruncatedArticleDtosCreatedSince(@Param("since") LocalDateTime since,
+                                                                  @Param("afterId") Long afterId,
+                                                                  @Param("summaryMaxChars") int summaryMaxChars,
+                                                                  Pageable pageable);
 
     // 제목이나 요약에서 검색
     @Query("SELECT a FROM Article a WHERE LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
            "OR LOWER(a.summary) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY a.publishedAt DESC")
     Page<Article> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
-    // 특정 기간 기사 조회
-    @Query("SELECT a FROM Article a WHERE a.createdAt BETWEEN :startDate AND :endDate ORDER BY a.publishedAt DESC")
-    Page<Article> findByDateRange(@Param("startDate") LocalDateTime startDate, 
-                                  @Param("endDate") LocalDateTime endDate, 
-                                  Pageable pageable);
+    // 전문 검색 (PostgreSQL: search_vector GIN 인덱스, 관련도 × 최신순 정렬)
+    @Query(value = "SELECT a.* FROM articles a, to_tsquery('simple', :tsQuery) q " +
+                   "WHERE a.search_vector @@ q " +
+                   "ORDER BY ts_rank(a.search_vector, q) / " +
+                   "(1 + EXTRACT(EPOCH FROM (NOW() - COALESCE(a.published_at, a.created_at))) / 604800) DESC, " +
+                   "a.published_at DESC",
+           countQuery = "SELECT COUNT(*) FROM articles a WHERE a.search_vector @@ to_tsquery('simple', :tsQuery)",
+           nativeQuery = true)
+    Page<Article> fullTextSearch(@Param("tsQuery") String tsQuery, Pageable pageable);
+
+    // 검색 토큰이 없는 기존 기사 조회 (토큰 백필용)
+    List<Article> findTop200BySearchTokensIsNullOrderByIdAsc();
 
-    // 중복 기사 체크 (동일한 제목과 출처)
-    boolean existsByTitleAndSource(String title, String source);
+    @Modifying
+    @Query("UPDATE Article a SET a.searchTokens = :searchTokens WHERE a.id = :id")
+    int updateSearchTokens(@Param("id") Long id, @Param("searchTokens") String searchTokens);
 
-    // 출처별 카테고리 목록
-    @Query("SELECT DISTINCT a.category FROM Article a WHERE a.source = :source ORDER BY a.category")
+    // 인메모리 검색 색인 재구성용 (ID 기준 키셋 페이징)
+    @Query("SELECT new com.newscrawler.search.IndexDocument(a.id, a.title, a.summary, a.publishedAt) " +
+           "FROM Article a WHERE a.id > :afterId ORDER BY a.id")
+    List<IndexDocument> findIndexDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 수집 시 기존 기사 조회 (출처 + 링크로 식별)
+    List<Article> findBySourceAndLinkIn(String source, Collection<String> links);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.contentHash = :contentHash WHERE a.id = :id")
+    int updateContentHash(@Param("id") Long id, @Param("contentHash") String contentHash);
+
+    // 출처별 카테고리 목록 (사전 id 기준이므로 이름 정렬은 호출 측에서)
+    @Query("SELECT DISTINCT a.category FROM Article a WHERE a.source = :source")
     List<String> findDistinctCategoriesBySource(@Param("source") String source);
 
     // 전체 출처 목록
-    @Query("SELECT DISTINCT a.source FROM Article a ORDER BY a.source")
+    @Query("SELECT DISTINCT a.source FROM Article a")
     List<String> findDistinctSources();
 
     // 전체 카테고리 목록
-    @Query("SELECT DISTINCT a.category FROM Article a ORDER BY a.category")
+    @Query("SELECT DISTINCT a.category FROM Article a")
     List<String> findDistinctCategories();
 
-    // 데이터 정리용 메서드
-    long deleteByCreatedAtBefore(LocalDateTime cutoffDate);
-    
-    long countByCreatedAtAfter(LocalDateTime date);
-    
-    // 특정 출처 기사 삭제
-    long deleteBySource(String source);
+    // 데이터 정리용 메서드 (청크 단위 삭제: ID 조회 후 PK로 일괄 삭제)
+    @Query("SELECT a.id FROM Article a WHERE a.createdAt < :cutoffDate ORDER BY a.id")
+    List<Long> findIdsCreatedBefore(@Param("cutoffDate") LocalDateTime cutoffDate, Pageable pageable);
+
+    // 보관 후 삭제용 (엔티티 대신 보관 파일에 기록할 컬럼만 조회)
+    @Query("SELECT new com.newscrawler.dto.ArchivedArticle(a.id, a.title, a.summary, a.imageUrl, a.source, " +
+           "a.category, a.link, a.publishedAt, a.createdAt, a.updatedAt) " +
+           "FROM Article a WHERE a.createdAt < :cutoffDate ORDER BY a.id")
+    List<ArchivedArticle> findArchiveRowsCreatedBefore(@Param("cutoffDate") LocalDateTime cutoffDate,
+                                                       Pageable pageable);
+
+    @Query("SELECT a.id FROM Article a WHERE a.source = :source ORDER BY a.id")
+    List<Long> findIdsBySource(@Param("source") String source, Pageable pageable);
+
+    // 집계 갱신용 (삭제 직전 청크의 수집일/출처/카테고리)
+    List<ArticleStatRow> findByIdIn(List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Article a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    // 내보내기용 커서 조회 (트랜잭션 안에서 fetch size 단위로 읽어 옴, 호출 측에서 detach 필요)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM Article a WHERE a.createdAt >= :since AND a.createdAt < :until " +
+           "AND (:source IS NULL OR a.source = :source) AND (:category IS NULL OR a.category = :category) " +
+           "ORDER BY a.id")
+    Stream<Article> streamForExport(@Param("since") LocalDateTime since,
+                                    @Param("until") LocalDateTime until,
+                                    @Param("source") String source,
+                                    @Param("category") String category);
 }
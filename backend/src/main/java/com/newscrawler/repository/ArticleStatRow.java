@@ -0,0 +1,15 @@
+package com.newscrawler.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 갱신에 필요한 컬럼만 조회하는 프로젝션
+ */
+public interface ArticleStatRow {
+
+    LocalDateTime getCreatedAt();
+
+    String getSource();
+
+    String getCategory();
+}
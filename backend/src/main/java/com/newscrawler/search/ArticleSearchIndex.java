@@ -0,0 +1,332 @@
+package com.newscrawler.search;
+
+import com.newscrawler.entity.Article;
+import com.newscrawler.event.ArticlesDeletedEvent;
+import com.newscrawler.event.ArticlesSavedEvent;
+import com.newscrawler.repository.ArticleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 기사 제목/요약에 대한 인메모리 역색인
+ * - 시작 시 DB에서 전체 재구성, 이후 크롤링 저장 이벤트로 증분 갱신
+ * - 삭제 이벤트에 기사 ID가 있으면 해당 문서만 묘비 처리, ID를 모르는 삭제(파티션 삭제)는 비동기 재구성 예약
+ * - 묘비가 문서의 절반을 넘으면 포스팅 정리를 위해 비동기 재구성 예약
+ * - 검색 결과는 기사 ID만 반환하며, 최종 페이지의 기사만 DB에서 조회
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleSearchIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ArticleRepository articleRepository;
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.index.rebuild-delay-ms:5000}")
+    private long rebuildDelayMs;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private Segment segment = new Segment();
+    private List<Consumer<Segment>> pendingDuringRebuild;
+    private volatile boolean ready;
+
+    public record SearchHits(List<Long> articleIds, int totalCount) {
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Article article : event.articles()) {
+                IndexDocument document = new IndexDocument(
+                        article.getId(), article.getTitle(), article.getSummary(), article.getPublishedAt());
+                segment.add(document);
+                if (pendingDuringRebuild != null) {
+                    pendingDuringRebuild.add(fresh -> fresh.add(document));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesDeleted(ArticlesDeletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        long[] articleIds = event.articleIds();
+        if (articleIds == null) {
+            requestRebuild();
+            return;
+        }
+
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            segment.remove(articleIds);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(fresh -> fresh.remove(articleIds));
+            }
+            compact = segment.needsCompaction();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (compact) {
+            requestRebuild();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void requestRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.schedule(() -> {
+                rebuildScheduled.set(false);
+                rebuild();
+            }, rebuildDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * DB 기준으로 색인 전체 재구성
+     * 재구성 도중 들어온 증분 갱신은 따로 모아 두었다가 교체 직전에 다시 반영
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Segment fresh = new Segment();
+            long afterId = 0L;
+
+            while (true) {
+                List<IndexDocument> batch = articleRepository.findIndexDocumentsAfter(
+                        afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                batch.forEach(fresh::add);
+                afterId = batch.get(batch.size() - 1).id();
+            }
+
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild.forEach(change -> change.accept(fresh));
+                segment = fresh;
+                ready = true;
+            } finally {
+                pendingDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+
+            log.info("검색 색인 재구성 완료 - 문서: {}개, 토큰: {}개", fresh.liveCount(), fresh.postings.size());
+        } catch (Exception e) {
+            log.error("검색 색인 재구성 중 오류 발생: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 불리언 검색 후 최신순 정렬된 기사 ID 페이지 반환
+     * - 공백으로 구분된 단어는 AND, "OR" 또는 "|"로 구분된 절은 OR
+     * - 각 단어는 바이그램 토큰의 AND로 일치
+     */
+    public SearchHits search(String query, int page, int size) {
+        List<List<String>> clauses = parseQuery(query);
+
+        lock.readLock().lock();
+        try {
+            Segment current = segment;
+            int[] matched = new int[0];
+
+            for (List<String> clause : clauses) {
+                matched = IntPostingList.union(matched, current.match(clause));
+            }
+
+            long[] ranked = current.rankByRecency(matched);
+            int from = Math.min(page * size, ranked.length);
+            int to = Math.min(from + size, ranked.length);
+
+            List<Long> articleIds = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                articleIds.add(current.articleIds[(int) (ranked[i] & Integer.MAX_VALUE)]);
+            }
+
+            return new SearchHits(articleIds, ranked.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<List<String>> parseQuery(String query) {
+        List<List<String>> clauses = new ArrayList<>();
+        Set<String> current = new LinkedHashSet<>();
+
+        for (String word : query.trim().split("\\s+")) {
+            if (word.equalsIgnoreCase("OR") || word.equals("|")) {
+                if (!current.isEmpty()) {
+                    clauses.add(new ArrayList<>(current));
+                    current = new LinkedHashSet<>();
+                }
+                continue;
+            }
+            current.addAll(KoreanNgramTokenizer.tokenizeQuery(word));
+        }
+        if (!current.isEmpty()) {
+            clauses.add(new ArrayList<>(current));
+        }
+
+        return clauses;
+    }
+
+    /**
+     * 색인 데이터 묶음 (재구성 시 통째로 교체)
+     */
+    private static final class Segment {
+
+        private final TermPostings postings = new TermPostings();
+        private final LongIntHashMap docByArticleId = new LongIntHashMap();
+        private final BitSet deleted = new BitSet();
+        private long[] articleIds = new long[1024];
+        private long[] publishedMinutes = new long[1024];
+        private int docCount;
+
+        void add(IndexDocument document) {
+            int previous = docByArticleId.get(document.id());
+            if (previous != LongIntHashMap.MISSING) {
+                deleted.set(previous);
+            }
+
+            int doc = docCount++;
+            if (doc == articleIds.length) {
+                articleIds = Arrays.copyOf(articleIds, doc * 2);
+                publishedMinutes = Arrays.copyOf(publishedMinutes, doc * 2);
+            }
+
+            articleIds[doc] = document.id();
+            publishedMinutes[doc] = document.publishedAt() != null
+                    ? document.publishedAt().toEpochSecond(ZoneOffset.UTC) / 60
+                    : 0L;
+            docByArticleId.put(document.id(), doc);
+
+            for (String token : KoreanNgramTokenizer.tokenize(document.title())) {
+                postings.getOrCreate(token).add(doc);
+            }
+            for (String token : KoreanNgramTokenizer.tokenize(document.summary())) {
+                postings.getOrCreate(token).add(doc);
+            }
+        }
+
+        void remove(long[] removedArticleIds) {
+            for (long articleId : removedArticleIds) {
+                int doc = docByArticleId.remove(articleId);
+                if (doc != LongIntHashMap.MISSING) {
+                    deleted.set(doc);
+                }
+            }
+        }
+
+        boolean needsCompaction() {
+            return docCount > 0 && docByArticleId.size() * 2 < docCount;
+        }
+
+        int[] match(List<String> tokens) {
+            List<IntPostingList> lists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                IntPostingList list = postings.get(token);
+                if (list == null) {
+                    return new int[0];
+                }
+                lists.add(list);
+            }
+            return IntPostingList.intersect(lists);
+        }
+
+        /**
+         * 발행 시각(분) 상위 비트 + 문서 번호 하위 31비트로 묶어 정렬 후 내림차순 반환
+         */
+        long[] rankByRecency(int[] docs) {
+            long[] keys = new long[docs.length];
+            int n = 0;
+            for (int doc : docs) {
+                if (!deleted.get(doc)) {
+                    keys[n++] = (publishedMinutes[doc] << 31) | doc;
+                }
+            }
+
+            keys = Arrays.copyOf(keys, n);
+            Arrays.sort(keys);
+            for (int i = 0, j = n - 1; i < j; i++, j--) {
+                long tmp = keys[i];
+                keys[i] = keys[j];
+                keys[j] = tmp;
+            }
+            return keys;
+        }
+
+        int liveCount() {
+            return docByArticleId.size();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.newscrawler.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 구성에 필요한 컬럼만 담은 프로젝션
+ */
+public record IndexDocument(Long id, String title, String summary, LocalDateTime publishedAt) {
+}
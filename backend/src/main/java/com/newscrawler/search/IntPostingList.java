@@ -0,0 +1,104 @@
+package com.newscrawler.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 정렬된 int 배열 기반 포스팅 리스트
+ * 문서 번호는 색인 순서대로 증가하므로 append만으로 정렬이 유지됨
+ */
+public class IntPostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] docs = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * 문서 번호 추가 (같은 문서의 중복 토큰은 한 번만 기록)
+     */
+    public void add(int doc) {
+        if (size > 0 && docs[size - 1] >= doc) {
+            if (docs[size - 1] == doc) {
+                return;
+            }
+            throw new IllegalArgumentException("문서 번호는 증가 순서로만 추가할 수 있습니다: " + doc);
+        }
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size + (size >> 1) + 1);
+        }
+        docs[size++] = doc;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(int index) {
+        return docs[index];
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(docs, size);
+    }
+
+    /**
+     * 여러 포스팅 리스트의 교집합 (짧은 리스트부터 이진 탐색으로 좁혀감)
+     */
+    public static int[] intersect(List<IntPostingList> lists) {
+        if (lists.isEmpty()) {
+            return new int[0];
+        }
+
+        IntPostingList[] sorted = lists.toArray(new IntPostingList[0]);
+        Arrays.sort(sorted, (a, b) -> Integer.compare(a.size, b.size));
+
+        int[] result = sorted[0].toArray();
+        int resultSize = result.length;
+
+        for (int i = 1; i < sorted.length && resultSize > 0; i++) {
+            IntPostingList other = sorted[i];
+            int matched = 0;
+            int from = 0;
+            for (int j = 0; j < resultSize; j++) {
+                int pos = Arrays.binarySearch(other.docs, from, other.size, result[j]);
+                if (pos >= 0) {
+                    result[matched++] = result[j];
+                    from = pos + 1;
+                } else {
+                    from = -pos - 1;
+                }
+            }
+            resultSize = matched;
+        }
+
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    /**
+     * 정렬된 두 배열의 합집합
+     */
+    public static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                result[n++] = a[i++];
+            } else if (a[i] > b[j]) {
+                result[n++] = b[j++];
+            } else {
+                result[n++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            result[n++] = a[i++];
+        }
+        while (j < b.length) {
+            result[n++] = b[j++];
+        }
+
+        return Arrays.copyOf(result, n);
+    }
+}
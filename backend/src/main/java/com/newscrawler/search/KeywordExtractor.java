@@ -0,0 +1,135 @@
+package com.newscrawler.search;
+
+import com.newscrawler.service.TextCleanupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 기사 제목/요약에서 화제어 후보 추출
+ * - TextCleanupService로 HTML/엔티티를 정리한 뒤 어절 단위로 분리
+ * - 한글 어절은 끝의 조사를 떼어 내고, 서술어(…했다/…한다 등)와 불용어는 제외
+ * - 제목에서는 연속된 두 키워드를 구(phrase)로도 추출 (인물/기관명 등)
+ * 형태소 분석기 없이 동작하는 경험적 규칙이므로 화제어 집계 용도로만 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class KeywordExtractor {
+
+    private static final int MIN_KEYWORD_LENGTH = 2;
+    private static final int MAX_KEYWORD_LENGTH = 20;
+
+    // 긴 조사부터 검사
+    private static final String[] PARTICLES = {
+            "에서는", "으로는", "에게서", "이라고", "까지", "부터", "에서", "에게", "께서", "으로", "처럼", "보다",
+            "라고", "이라", "은", "는", "이", "가", "을", "를", "의", "에", "로", "와", "과", "도", "만"
+    };
+
+    private static final String[] PREDICATE_ENDINGS = {
+            "했다", "한다", "된다", "됐다", "있다", "없다", "밝혔다", "전했다", "말했다", "하는", "했던", "하며",
+            "하고", "해야", "되는", "이다", "였다", "겠다", "니다"
+    };
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "기자", "뉴스", "속보", "단독", "종합", "오늘", "어제", "내일", "지난", "이번", "올해", "지난해", "현재",
+            "위해", "통해", "대한", "대해", "관련", "이후", "이전", "가운데", "때문", "정도", "경우", "사실", "모든",
+            "그리고", "하지만", "그러나", "또한", "및", "등", "것", "수", "더", "또", "약", "중", "전", "후",
+            "사진", "영상", "제공", "무단", "전재", "배포", "금지", "연합뉴스", "뉴시스", "뉴스1",
+            "the", "and", "for", "with", "from", "that", "this", "are", "was", "has", "have", "news"
+    );
+
+    private final TextCleanupService textCleanupService;
+
+    /**
+     * 기사 한 건의 키워드 (기사당 한 번씩만 집계되도록 중복 제거)
+     */
+    public Set<String> extract(String title, String summary) {
+        Set<String> keywords = new LinkedHashSet<>();
+
+        List<String> titleWords = words(title);
+        keywords.addAll(titleWords);
+        for (int i = 0; i < titleWords.size() - 1; i++) {
+            keywords.add(titleWords.get(i) + " " + titleWords.get(i + 1));
+        }
+        keywords.addAll(words(summary));
+
+        return keywords;
+    }
+
+    /**
+     * 자동완성 접두어를 키워드와 같은 형태로 정규화 (NFKC, 소문자, 구분자는 공백 하나로)
+     * 끝의 공백은 남겨 두어 "삼성 "으로 구(phrase)만 찾을 수 있게 함
+     */
+    public String normalizePrefix(String prefix) {
+        if (prefix == null) {
+            return "";
+        }
+        return Normalizer.normalize(prefix, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .stripLeading();
+    }
+
+    private List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+
+        String cleaned = Normalizer.normalize(textCleanupService.cleanText(text), Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT);
+        for (String raw : cleaned.split("[^\\p{L}\\p{N}]+")) {
+            String word = normalizeWord(raw);
+            if (word != null) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 키워드로 쓸 수 없는 어절이면 null
+     */
+    private String normalizeWord(String raw) {
+        if (raw.isEmpty() || raw.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+
+        String word = raw;
+        if (isHangul(word)) {
+            for (String ending : PREDICATE_ENDINGS) {
+                if (word.endsWith(ending)) {
+                    return null;
+                }
+            }
+            word = stripParticle(word);
+        } else if (word.length() < 3) {
+            return null; // 영문 두 글자 이하 약어는 의미가 모호해 제외
+        }
+
+        int length = word.codePointCount(0, word.length());
+        if (length < MIN_KEYWORD_LENGTH || length > MAX_KEYWORD_LENGTH || STOPWORDS.contains(word)) {
+            return null;
+        }
+        return word;
+    }
+
+    private static String stripParticle(String word) {
+        for (String particle : PARTICLES) {
+            if (word.endsWith(particle) && word.length() - particle.length() >= MIN_KEYWORD_LENGTH) {
+                return word.substring(0, word.length() - particle.length());
+            }
+        }
+        return word;
+    }
+
+    private static boolean isHangul(String word) {
+        return word.codePoints().anyMatch(cp -> Character.UnicodeScript.of(cp) == Character.UnicodeScript.HANGUL);
+    }
+}
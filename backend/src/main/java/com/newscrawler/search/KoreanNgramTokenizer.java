@@ -0,0 +1,103 @@
+package com.newscrawler.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한국어 검색용 토크나이저
+ * - 한글/한자가 포함된 어절은 글자 단위 바이그램으로 분해 (형태소 분석기 없이 조사/어미 변화 대응)
+ * - 영문/숫자로만 된 어절은 소문자 단어 그대로 사용
+ */
+public final class KoreanNgramTokenizer {
+
+    private KoreanNgramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 검색 토큰 목록으로 변환 (중복 포함, 등장 순서 유지)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                word.appendCodePoint(codePoint);
+            } else {
+                flushWord(word, tokens);
+            }
+            i += Character.charCount(codePoint);
+        }
+        flushWord(word, tokens);
+
+        return tokens;
+    }
+
+    /**
+     * 검색어를 중복 없는 토큰 목록으로 변환
+     */
+    public static List<String> tokenizeQuery(String keyword) {
+        return new ArrayList<>(new LinkedHashSet<>(tokenize(keyword)));
+    }
+
+    /**
+     * 색인 컬럼에 저장할 토큰 문자열 생성
+     * 앞뒤에 공백을 두어 "% 토큰 %" 형태의 LIKE 검색이 단어 경계에서만 일치하도록 함
+     */
+    public static String toIndexText(String... texts) {
+        StringBuilder sb = new StringBuilder(" ");
+        for (String text : texts) {
+            for (String token : tokenize(text)) {
+                sb.append(token).append(' ');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * PostgreSQL to_tsquery용 AND 질의 문자열 생성
+     * 토큰은 문자/숫자로만 구성되므로 별도 이스케이프가 필요 없음
+     */
+    public static String toTsQuery(List<String> tokens) {
+        return String.join(" & ", tokens);
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (word.length() == 0) {
+            return;
+        }
+
+        String value = word.toString();
+        word.setLength(0);
+
+        if (!containsCjk(value)) {
+            tokens.add(value);
+            return;
+        }
+
+        int[] codePoints = value.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(value);
+            return;
+        }
+        for (int i = 0; i < codePoints.length - 1; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean containsCjk(String value) {
+        return value.codePoints().anyMatch(cp -> {
+            Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+            return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN;
+        });
+    }
+}
@@ -0,0 +1,432 @@
+package com.newscrawler.search;
+
+import com.newscrawler.dto.ArticleResponseDto;
+import com.newscrawler.entity.Article;
+import com.newscrawler.event.ArticlesDeletedEvent;
+import com.newscrawler.event.ArticlesSavedEvent;
+import com.newscrawler.repository.ArticleRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 관련 기사 조회용 MinHash + LSH 인메모리 색인
+ * - 기사마다 제목/요약 바이그램 집합의 MinHash 서명(32개 int)을 하나의 int 배열에 연속 저장
+ * - 서명을 16개 밴드(밴드당 2행)로 나눠 버킷에 문서 번호를 기록, 같은 버킷을 공유하는 기사만 후보로 비교
+ *   (추정 자카드 유사도 약 0.25 이상부터 후보에 오를 확률이 높아짐)
+ * - 시작 시 DB에서 전체 재구성, 이후 저장 이벤트로 증분 추가
+ * - 삭제 이벤트는 해당 문서만 묘비 처리, ID를 모르는 삭제나 묘비가 절반을 넘으면 비동기 재구성 예약
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RelatedArticleIndex {
+
+    private static final int NUM_HASHES = 32;
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = NUM_HASHES / BANDS;
+    private static final int MIN_SHINGLES = 4; // 이보다 짧은 기사는 유사도가 의미 없어 색인하지 않음
+    private static final int MAX_BUCKET_SCAN = 2000; // 흔한 표현으로 커진 버킷은 최근 문서부터 이만큼만 확인
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final LocalDateTime REBUILD_SINCE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final int[] HASH_A = new int[NUM_HASHES];
+    private static final int[] HASH_B = new int[NUM_HASHES];
+
+    static {
+        Random random = new Random(0x5EEDL);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            HASH_A[i] = random.nextInt() | 1;
+            HASH_B[i] = random.nextInt();
+        }
+    }
+
+    private final ArticleRepository articleRepository;
+
+    @Value("${related.enabled:true}")
+    private boolean enabled;
+
+    @Value("${related.rebuild-delay-ms:5000}")
+    private long rebuildDelayMs;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "related-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private Segment segment = new Segment();
+    private List<Consumer<Segment>> pendingDuringRebuild;
+    private volatile boolean ready;
+
+    public record RelatedHit(long articleId, double similarity) {
+    }
+
+    private record RelatedDocument(long id, String title, String summary, String source) {
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Article article : event.articles()) {
+                RelatedDocument document = new RelatedDocument(
+                        article.getId(), article.getTitle(), article.getSummary(), article.getSource());
+                segment.add(document);
+                if (pendingDuringRebuild != null) {
+                    pendingDuringRebuild.add(fresh -> fresh.add(document));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesDeleted(ArticlesDeletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        long[] articleIds = event.articleIds();
+        if (articleIds == null) {
+            requestRebuild();
+            return;
+        }
+
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            segment.remove(articleIds);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(fresh -> fresh.remove(articleIds));
+            }
+            compact = segment.needsCompaction();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (compact) {
+            requestRebuild();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void requestRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.schedule(() -> {
+                rebuildScheduled.set(false);
+                rebuild();
+            }, rebuildDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * DB 기준으로 색인 전체 재구성
+     * 재구성 도중 들어온 증분 갱신은 따로 모아 두었다가 교체 직전에 다시 반영
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Segment fresh = new Segment();
+            long afterId = 0L;
+
+            while (true) {
+                List<ArticleResponseDto> batch = articleRepository.findArticleDtosCreatedSince(
+                        REBUILD_SINCE, afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (ArticleResponseDto article : batch) {
+                    fresh.add(new RelatedDocument(
+                            article.getId(), article.getTitle(), article.getSummary(), article.getSource()));
+                }
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild.forEach(change -> change.accept(fresh));
+                segment = fresh;
+                ready = true;
+            } finally {
+                pendingDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+
+            log.info("관련 기사 색인 재구성 완료 - 문서: {}개, 버킷: {}개", fresh.liveCount(), fresh.bucketCount);
+        } catch (Exception e) {
+            log.error("관련 기사 색인 재구성 중 오류 발생: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 유사한 기사 (추정 유사도 내림차순, 같으면 최근 색인된 기사 우선)
+     * 기사가 색인에 없으면 빈 목록
+     */
+    public List<RelatedHit> findRelated(long articleId, int limit, double minSimilarity, boolean includeSameSource) {
+        lock.readLock().lock();
+        try {
+            return segment.findRelated(articleId, limit, minSimilarity, includeSameSource);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.liveCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 중복 없는 바이그램 토큰의 MinHash 서명
+     */
+    private static int[] signature(Set<String> shingles) {
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        for (String shingle : shingles) {
+            int x = mix(shingle.hashCode());
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int h = HASH_A[i] * x + HASH_B[i];
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * murmur3 fmix32
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static long bucketKey(int[] signatures, int offset, int band) {
+        long h = band;
+        for (int row = 0; row < ROWS_PER_BAND; row++) {
+            h = h * 0x9E3779B97F4A7C15L + signatures[offset + band * ROWS_PER_BAND + row];
+        }
+        return (h & 0x00FFFFFFFFFFFFFFL) | ((long) band << 56);
+    }
+
+    /**
+     * 색인 데이터 묶음 (재구성 시 통째로 교체)
+     */
+    private static final class Segment {
+
+        private final LongIntHashMap bucketByKey = new LongIntHashMap(1024);
+        private final LongIntHashMap docByArticleId = new LongIntHashMap(1024);
+        private final Map<String, Integer> sourceIndex = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+        private IntPostingList[] buckets = new IntPostingList[1024];
+        private int bucketCount;
+        private int[] signatures = new int[1024 * NUM_HASHES];
+        private long[] articleIds = new long[1024];
+        private int[] sources = new int[1024];
+        private int docCount;
+
+        void add(RelatedDocument document) {
+            int previous = docByArticleId.remove(document.id());
+            if (previous != LongIntHashMap.MISSING) {
+                deleted.set(previous);
+            }
+
+            Set<String> shingles = new LinkedHashSet<>(KoreanNgramTokenizer.tokenize(document.title()));
+            shingles.addAll(KoreanNgramTokenizer.tokenize(document.summary()));
+            if (shingles.size() < MIN_SHINGLES) {
+                return;
+            }
+
+            int doc = docCount++;
+            if (doc == articleIds.length) {
+                articleIds = Arrays.copyOf(articleIds, doc * 2);
+                sources = Arrays.copyOf(sources, doc * 2);
+                signatures = Arrays.copyOf(signatures, doc * 2 * NUM_HASHES);
+            }
+
+            articleIds[doc] = document.id();
+            sources[doc] = sourceIndex.computeIfAbsent(
+                    document.source() != null ? document.source() : "", key -> sourceIndex.size());
+            System.arraycopy(signature(shingles), 0, signatures, doc * NUM_HASHES, NUM_HASHES);
+            docByArticleId.put(document.id(), doc);
+
+            for (int band = 0; band < BANDS; band++) {
+                bucketFor(bucketKey(signatures, doc * NUM_HASHES, band)).add(doc);
+            }
+        }
+
+        void remove(long[] removedArticleIds) {
+            for (long articleId : removedArticleIds) {
+                int doc = docByArticleId.remove(articleId);
+                if (doc != LongIntHashMap.MISSING) {
+                    deleted.set(doc);
+                }
+            }
+        }
+
+        boolean needsCompaction() {
+            return docCount > 0 && docByArticleId.size() * 2 < docCount;
+        }
+
+        private IntPostingList bucketFor(long key) {
+            int bucket = bucketByKey.get(key);
+            if (bucket != LongIntHashMap.MISSING) {
+                return buckets[bucket];
+            }
+
+            bucket = bucketCount++;
+            if (bucket == buckets.length) {
+                buckets = Arrays.copyOf(buckets, bucket * 2);
+            }
+            buckets[bucket] = new IntPostingList();
+            bucketByKey.put(key, bucket);
+            return buckets[bucket];
+        }
+
+        List<RelatedHit> findRelated(long articleId, int limit, double minSimilarity, boolean includeSameSource) {
+            int target = docByArticleId.get(articleId);
+            if (target == LongIntHashMap.MISSING) {
+                return List.of();
+            }
+
+            int offset = target * NUM_HASHES;
+            IntPostingList[] targetBuckets = new IntPostingList[BANDS];
+            int scanCount = 0;
+            for (int band = 0; band < BANDS; band++) {
+                int bucket = bucketByKey.get(bucketKey(signatures, offset, band));
+                if (bucket != LongIntHashMap.MISSING) {
+                    targetBuckets[band] = buckets[bucket];
+                    scanCount += Math.min(buckets[bucket].size(), MAX_BUCKET_SCAN);
+                }
+            }
+
+            // 실제로 훑을 후보 수에 맞춘 작은 오픈 어드레싱 집합으로 밴드 간 중복 후보 제거
+            int[] seen = new int[Integer.highestOneBit(Math.max(scanCount, 1)) << 2];
+            Arrays.fill(seen, -1);
+            int seenMask = seen.length - 1;
+
+            // 유사도(상위 비트, 일치 해시 수) + 문서 번호(하위 31비트)로 묶어 정렬
+            long[] ranked = new long[scanCount];
+            int rankedCount = 0;
+            int minMatches = (int) Math.ceil(minSimilarity * NUM_HASHES);
+            for (IntPostingList bucket : targetBuckets) {
+                if (bucket == null) {
+                    continue;
+                }
+                int from = Math.max(0, bucket.size() - MAX_BUCKET_SCAN);
+                for (int i = bucket.size() - 1; i >= from; i--) {
+                    int doc = bucket.get(i);
+                    if (doc == target || !markSeen(seen, seenMask, doc) || deleted.get(doc)
+                            || (!includeSameSource && sources[doc] == sources[target])) {
+                        continue;
+                    }
+
+                    int matches = 0;
+                    int candidateOffset = doc * NUM_HASHES;
+                    for (int h = 0; h < NUM_HASHES; h++) {
+                        if (signatures[offset + h] == signatures[candidateOffset + h]) {
+                            matches++;
+                        }
+                    }
+                    if (matches >= minMatches) {
+                        ranked[rankedCount++] = ((long) matches << 31) | doc;
+                    }
+                }
+            }
+
+            Arrays.sort(ranked, 0, rankedCount);
+            List<RelatedHit> hits = new ArrayList<>(Math.min(limit, rankedCount));
+            for (int i = rankedCount - 1; i >= 0 && hits.size() < limit; i--) {
+                int doc = (int) (ranked[i] & Integer.MAX_VALUE);
+                hits.add(new RelatedHit(articleIds[doc], (double) (ranked[i] >>> 31) / NUM_HASHES));
+            }
+            return hits;
+        }
+
+        int liveCount() {
+            return docByArticleId.size();
+        }
+
+        /**
+         * 처음 본 문서면 집합에 넣고 true (문서 번호는 0 이상이라 -1을 빈 칸으로 사용)
+         */
+        private static boolean markSeen(int[] seen, int mask, int doc) {
+            int slot = (doc * 0x9E3779B9) & mask;
+            while (seen[slot] != -1) {
+                if (seen[slot] == doc) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            seen[slot] = doc;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.newscrawler.search;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Space-Saving 빈도 상위 항목 추정 (Metwally et al.)
+ * - 최대 capacity개의 카운터만 유지하므로 입력량과 관계없이 메모리가 고정됨
+ * - 카운터가 가득 차면 가장 작은 카운터를 새 항목에 넘겨주고, 넘겨받은 값은 오차(error)로 기록
+ * - 실제 빈도는 count - error 이상 count 이하, 전체 가중치 합이 N이면 error는 N / capacity 이하
+ * 카운터는 count 기준 최소 힙으로 관리해 최솟값 교체와 증가가 O(log capacity)
+ * 동기화하지 않으므로 호출 측에서 잠금 관리
+ */
+public class SpaceSavingCounter {
+
+    private final int capacity;
+    private final String[] items;
+    private final long[] counts;
+    private final long[] errors;
+    private final Map<String, Integer> positions; // 항목 → 힙 위치
+    private int size;
+
+    public SpaceSavingCounter(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("카운터 수는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.items = new String[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 항목 빈도 증가 (weight는 양수)
+     */
+    public void add(String item, long weight) {
+        Integer position = positions.get(item);
+        if (position != null) {
+            counts[position] += weight;
+            siftDown(position);
+            return;
+        }
+
+        if (size < capacity) {
+            int slot = size++;
+            items[slot] = item;
+            counts[slot] = weight;
+            errors[slot] = 0L;
+            positions.put(item, slot);
+            siftUp(slot);
+            return;
+        }
+
+        // 힙의 루트가 가장 작은 카운터
+        long minCount = counts[0];
+        positions.remove(items[0]);
+        items[0] = item;
+        counts[0] = minCount + weight;
+        errors[0] = minCount;
+        positions.put(item, 0);
+        siftDown(0);
+    }
+
+    /**
+     * 가중치를 곱해 합산 대상에 더함 (여러 시간 구간 요약을 합칠 때, 항목 → {count, error})
+     */
+    public void mergeInto(Map<String, double[]> merged, double weight) {
+        for (int i = 0; i < size; i++) {
+            double[] sum = merged.computeIfAbsent(items[i], key -> new double[2]);
+            sum[0] += counts[i] * weight;
+            sum[1] += errors[i] * weight;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (counts[parent] <= counts[index]) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int smallest = index;
+            int left = index * 2 + 1;
+            int right = left + 1;
+            if (left < size && counts[left] < counts[smallest]) {
+                smallest = left;
+            }
+            if (right < size && counts[right] < counts[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        String item = items[a];
+        items[a] = items[b];
+        items[b] = item;
+
+        long count = counts[a];
+        counts[a] = counts[b];
+        counts[b] = count;
+
+        long error = errors[a];
+        errors[a] = errors[b];
+        errors[b] = error;
+
+        positions.put(items[a], a);
+        positions.put(items[b], b);
+    }
+}
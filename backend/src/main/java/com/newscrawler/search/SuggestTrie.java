@@ -0,0 +1,174 @@
+package com.newscrawler.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 자동완성용 불변 트라이 (만든 뒤에는 읽기 전용이라 잠금 없이 조회)
+ * - 노드는 글자 하나, 자식은 글자순으로 연속 배치해 이진 탐색
+ * - 노드마다 그 아래 용어 중 점수 상위 topK개의 용어 번호를 미리 저장해, 조회는 접두어 길이만큼만 내려감
+ * 모든 데이터가 원시 배열이라 메모리는 어휘 수(노드 수 × topK)에 비례
+ */
+public final class SuggestTrie {
+
+    private static final SuggestTrie EMPTY = build(List.of(), new float[0], 1);
+
+    private final String[] terms;
+    private final float[] scores;
+    private final char[] labels;
+    private final int[] childStart;
+    private final int[] childCount;
+    private final int[] top;
+    private final int topK;
+
+    public record Suggestion(String term, double score) {
+    }
+
+    private SuggestTrie(String[] terms, float[] scores, Builder builder, int topK) {
+        this.terms = terms;
+        this.scores = scores;
+        this.labels = Arrays.copyOf(builder.labels, builder.nodeCount);
+        this.childStart = Arrays.copyOf(builder.childStart, builder.nodeCount);
+        this.childCount = Arrays.copyOf(builder.childCount, builder.nodeCount);
+        this.top = Arrays.copyOf(builder.top, builder.nodeCount * topK);
+        this.topK = topK;
+    }
+
+    public static SuggestTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 정렬되고 중복 없는 용어와 각 용어의 점수로 트라이 생성
+     */
+    public static SuggestTrie build(List<String> sortedTerms, float[] scores, int topK) {
+        String[] terms = sortedTerms.toArray(new String[0]);
+        Builder builder = new Builder(topK);
+        int root = builder.newNodes(1);
+        builder.build(terms, scores, root, 0, terms.length, 0);
+        return new SuggestTrie(terms, scores, builder, topK);
+    }
+
+    /**
+     * 접두어로 시작하는 용어 중 점수 상위 limit개 (limit은 topK 이하로 제한)
+     */
+    public List<Suggestion> lookup(String prefix, int limit) {
+        int node = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = child(node, prefix.charAt(i));
+            if (node < 0) {
+                return List.of();
+            }
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, topK));
+        for (int i = 0; i < Math.min(limit, topK); i++) {
+            int term = top[node * topK + i];
+            if (term < 0) {
+                break;
+            }
+            suggestions.add(new Suggestion(terms[term], scores[term]));
+        }
+        return suggestions;
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    private int child(int node, char c) {
+        int low = childStart[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (labels[mid] < c) {
+                low = mid + 1;
+            } else if (labels[mid] > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 정렬된 용어 구간을 깊이 우선으로 내려가며 노드 배열을 채움
+     * 한 노드의 자식은 재귀 전에 한꺼번에 할당해 연속 배치를 유지
+     */
+    private static final class Builder {
+
+        private final int topK;
+        private char[] labels = new char[1024];
+        private int[] childStart = new int[1024];
+        private int[] childCount = new int[1024];
+        private int[] top;
+        private int nodeCount;
+
+        Builder(int topK) {
+            this.topK = topK;
+            this.top = new int[1024 * topK];
+        }
+
+        int newNodes(int count) {
+            int first = nodeCount;
+            nodeCount += count;
+            if (nodeCount > labels.length) {
+                int capacity = Math.max(nodeCount, labels.length * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                childStart = Arrays.copyOf(childStart, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+                top = Arrays.copyOf(top, capacity * topK);
+            }
+            return first;
+        }
+
+        /**
+         * terms[lo, hi)는 모두 깊이 depth까지 같은 접두어를 가짐
+         */
+        void build(String[] terms, float[] scores, int node, int lo, int hi, int depth) {
+            List<Integer> candidates = new ArrayList<>();
+            int start = lo;
+            if (lo < hi && terms[lo].length() == depth) {
+                candidates.add(lo);
+                start = lo + 1;
+            }
+
+            int groups = 0;
+            for (int i = start; i < hi; i++) {
+                if (i == start || terms[i].charAt(depth) != terms[i - 1].charAt(depth)) {
+                    groups++;
+                }
+            }
+
+            int child = newNodes(groups);
+            childStart[node] = child;
+            childCount[node] = groups;
+
+            for (int i = start; i < hi; child++) {
+                char c = terms[i].charAt(depth);
+                int j = i + 1;
+                while (j < hi && terms[j].charAt(depth) == c) {
+                    j++;
+                }
+
+                labels[child] = c;
+                build(terms, scores, child, i, j, depth + 1);
+                for (int k = 0; k < topK && top[child * topK + k] >= 0; k++) {
+                    candidates.add(top[child * topK + k]);
+                }
+                i = j;
+            }
+
+            candidates.sort((a, b) -> Float.compare(scores[b], scores[a]));
+            for (int k = 0; k < topK; k++) {
+                top[node * topK + k] = k < candidates.size() ? candidates.get(k) : -1;
+            }
+        }
+    }
+}
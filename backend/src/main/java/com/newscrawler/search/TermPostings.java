@@ -0,0 +1,89 @@
+package com.newscrawler.search;
+
+import java.util.Arrays;
+
+/**
+ * 토큰 → 포스팅 리스트 사전
+ * - 토큰은 오픈 어드레싱 표에서 토큰 번호로 바꾸고, 포스팅 리스트는 토큰 번호로 배열에서 바로 찾음
+ * - 토큰 삭제는 지원하지 않음 (삭제된 문서는 색인 쪽 묘비로 거르고, 재구성 때 정리)
+ */
+public class TermPostings {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private String[] tokens = new String[INITIAL_CAPACITY];
+    private int[] termIds = new int[INITIAL_CAPACITY];
+    private IntPostingList[] postings = new IntPostingList[INITIAL_CAPACITY / 2];
+    private int mask = INITIAL_CAPACITY - 1;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 토큰의 포스팅 리스트 (없으면 null)
+     */
+    public IntPostingList get(String token) {
+        int slot = slot(token);
+        while (tokens[slot] != null) {
+            if (tokens[slot].equals(token)) {
+                return postings[termIds[slot]];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * 토큰의 포스팅 리스트 (없으면 새로 만들어 등록)
+     */
+    public IntPostingList getOrCreate(String token) {
+        int slot = slot(token);
+        while (tokens[slot] != null) {
+            if (tokens[slot].equals(token)) {
+                return postings[termIds[slot]];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int termId = size++;
+        if (termId == postings.length) {
+            postings = Arrays.copyOf(postings, termId * 2);
+        }
+        IntPostingList list = new IntPostingList();
+        postings[termId] = list;
+        tokens[slot] = token;
+        termIds[slot] = termId;
+
+        if (size > (mask + 1) / 2) {
+            resize();
+        }
+        return list;
+    }
+
+    private void resize() {
+        String[] oldTokens = tokens;
+        int[] oldTermIds = termIds;
+        int capacity = (mask + 1) * 2;
+        tokens = new String[capacity];
+        termIds = new int[capacity];
+        mask = capacity - 1;
+
+        for (int i = 0; i < oldTokens.length; i++) {
+            if (oldTokens[i] != null) {
+                int slot = slot(oldTokens[i]);
+                while (tokens[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                tokens[slot] = oldTokens[i];
+                termIds[slot] = oldTermIds[i];
+            }
+        }
+    }
+
+    private int slot(String token) {
+        int hash = token.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
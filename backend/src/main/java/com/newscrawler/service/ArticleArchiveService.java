@@ -0,0 +1,338 @@
+package com.newscrawler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newscrawler.config.ArchiveConfig;
+import com.newscrawler.dto.ArchivedArticle;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 기간이 지난 기사를 로컬 디스크에 gzip NDJSON으로 보관
+ * - 수집일별 디렉터리(dt=YYYY-MM-DD)에 gzip 멤버를 이어 붙이는 방식으로 기록
+ * - 삭제 전에 기록과 fsync를 끝내므로, 보관에 실패하면 삭제도 롤백됨
+ * - 날짜마다 요약 파일(index.json: 기사 수, 수집/발행 시각 범위)을 함께 갱신해,
+ *   기간 조회 시 요청한 페이지에 들어올 수 있는 날짜 파일만 읽음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleArchiveService {
+
+    private static final String ARCHIVE_FILE_NAME = "articles.ndjson.gz";
+    private static final String SUMMARY_FILE_NAME = "index.json";
+    private static final String DAY_DIRECTORY_PREFIX = "dt=";
+
+    /**
+     * 기간 조회 정렬 순서 (발행 시각 내림차순, 없으면 뒤로, 같으면 ID 내림차순) - DB 기간 조회와 동일
+     */
+    public static final Comparator<ArchivedArticle> NEWEST_FIRST = Comparator
+            .comparing(ArchivedArticle::getPublishedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(ArchivedArticle::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final ArchiveConfig archiveConfig;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 날짜 파일 요약 (fileSize가 실제 파일 크기와 다르면 기록 도중 종료된 것이므로 다시 만듦)
+     */
+    public record DaySummary(long fileSize, long count, LocalDateTime minCreatedAt, LocalDateTime maxCreatedAt,
+                             LocalDateTime maxPublishedAt) {
+    }
+
+    /**
+     * 정렬 순서 상위 기사와 기간 내 전체 보관 기사 수
+     */
+    public record ArchivedPage(List<ArchivedArticle> top, long totalCount) {
+    }
+
+    public boolean isEnabled() {
+        return archiveConfig.isEnabled();
+    }
+
+    /**
+     * 기사 목록을 수집일별 보관 파일에 추가
+     */
+    public synchronized void archive(List<ArchivedArticle> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+
+        Map<LocalDate, List<ArchivedArticle>> articlesByDay = new TreeMap<>();
+        for (ArchivedArticle article : articles) {
+            articlesByDay.computeIfAbsent(article.getCreatedAt().toLocalDate(), day -> new ArrayList<>()).add(article);
+        }
+
+        try {
+            for (Map.Entry<LocalDate, List<ArchivedArticle>> entry : articlesByDay.entrySet()) {
+                appendToDayFile(entry.getKey(), entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("기사 보관 파일 기록 실패", e);
+        }
+
+        log.debug("기사 {}개 보관 완료 ({}일치)", articles.size(), articlesByDay.size());
+    }
+
+    /**
+     * 수집 시각이 기간 안에 있는 보관 기사 중 정렬 순서 상위 limit개
+     * - 기간에 완전히 포함된 날짜는 요약의 기사 수로 전체 개수를 셈 (경계 날짜만 읽어서 셈)
+     * - 날짜를 최신 발행 시각 순으로 훑으며, 남은 날짜가 상위 limit개에 들 수 없으면 읽지 않고 멈춤
+     * 메모리는 limit개와 날짜 파일 하나 분량으로 제한됨
+     */
+    public ArchivedPage findArchivedTop(LocalDateTime startDate, LocalDateTime endDate, int limit) {
+        PriorityQueue<ArchivedArticle> top = new PriorityQueue<>(Math.max(limit, 1), NEWEST_FIRST.reversed());
+        Map<LocalDate, DaySummary> summaries = new HashMap<>();
+        long totalCount = 0;
+
+        for (LocalDate day : archivedDays(startDate.toLocalDate(), endDate.toLocalDate())) {
+            DaySummary summary = summary(day);
+            if (summary == null || summary.count() == 0) {
+                continue;
+            }
+
+            boolean fullyCovered = !summary.minCreatedAt().isBefore(startDate) && !summary.maxCreatedAt().isAfter(endDate);
+            if (fullyCovered) {
+                totalCount += summary.count();
+                summaries.put(day, summary);
+                continue;
+            }
+
+            // 기간 경계에 걸친 날짜는 읽어서 세고, 읽은 김에 상위 후보에도 넣음
+            for (ArchivedArticle article : readDay(day)) {
+                if (inRange(article, startDate, endDate)) {
+                    totalCount++;
+                    offer(top, article, limit);
+                }
+            }
+        }
+
+        List<Map.Entry<LocalDate, DaySummary>> byNewest = new ArrayList<>(summaries.entrySet());
+        byNewest.sort(Comparator.comparing((Map.Entry<LocalDate, DaySummary> entry) -> entry.getValue().maxPublishedAt(),
+                Comparator.nullsLast(Comparator.reverseOrder())));
+
+        for (Map.Entry<LocalDate, DaySummary> entry : byNewest) {
+            if (limit <= 0) {
+                break;
+            }
+            if (top.size() >= limit) {
+                ArchivedArticle best = ArchivedArticle.builder()
+                        .id(Long.MAX_VALUE)
+                        .publishedAt(entry.getValue().maxPublishedAt())
+                        .build();
+                if (NEWEST_FIRST.compare(best, top.peek()) >= 0) {
+                    break;
+                }
+            }
+            for (ArchivedArticle article : readDay(entry.getKey())) {
+                offer(top, article, limit);
+            }
+        }
+
+        List<ArchivedArticle> result = new ArrayList<>(top);
+        result.sort(NEWEST_FIRST);
+        return new ArchivedPage(result, totalCount);
+    }
+
+    private static void offer(PriorityQueue<ArchivedArticle> top, ArchivedArticle article, int limit) {
+        if (limit <= 0) {
+            return;
+        }
+        if (top.size() < limit) {
+            top.add(article);
+        } else if (NEWEST_FIRST.compare(article, top.peek()) < 0) {
+            top.poll();
+            top.add(article);
+        }
+    }
+
+    private static boolean inRange(ArchivedArticle article, LocalDateTime startDate, LocalDateTime endDate) {
+        LocalDateTime createdAt = article.getCreatedAt();
+        return !createdAt.isBefore(startDate) && !createdAt.isAfter(endDate);
+    }
+
+    /**
+     * 보관 디렉터리에 있는 날짜 중 기간에 걸친 것 (날짜마다 파일 존재를 확인하지 않고 디렉터리 목록만 읽음)
+     */
+    private List<LocalDate> archivedDays(LocalDate from, LocalDate to) {
+        Path root = Paths.get(archiveConfig.getDirectory());
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+
+        List<LocalDate> days = new ArrayList<>();
+        try (Stream<Path> children = Files.list(root)) {
+            children.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(DAY_DIRECTORY_PREFIX))
+                    .forEach(name -> {
+                        try {
+                            LocalDate day = LocalDate.parse(name.substring(DAY_DIRECTORY_PREFIX.length()));
+                            if (!day.isBefore(from) && !day.isAfter(to)) {
+                                days.add(day);
+                            }
+                        } catch (DateTimeParseException e) {
+                            log.debug("보관 디렉터리가 아닌 항목 무시: {}", name);
+                        }
+                    });
+        } catch (IOException e) {
+            log.error("보관 디렉터리 목록 읽기 실패: {}", e.getMessage());
+        }
+        return days;
+    }
+
+    /**
+     * 날짜 요약 (없거나 데이터 파일과 맞지 않으면 파일을 한 번 읽어 다시 만듦 - 요약 도입 이전 보관분 포함)
+     */
+    private DaySummary summary(LocalDate day) {
+        Path file = dayFile(day);
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try {
+            long fileSize = Files.size(file);
+            Path summaryFile = summaryFile(day);
+            if (Files.exists(summaryFile)) {
+                DaySummary summary = objectMapper.readValue(summaryFile.toFile(), DaySummary.class);
+                if (summary.fileSize() == fileSize) {
+                    return summary;
+                }
+            }
+
+            DaySummary rebuilt = summarize(fileSize, readDay(day));
+            writeSummary(day, rebuilt);
+            return rebuilt;
+        } catch (IOException e) {
+            log.error("보관 요약 읽기 실패: {} - {}", day, e.getMessage());
+            return null;
+        }
+    }
+
+    private static DaySummary summarize(long fileSize, Collection<ArchivedArticle> articles) {
+        LocalDateTime minCreatedAt = null;
+        LocalDateTime maxCreatedAt = null;
+        LocalDateTime maxPublishedAt = null;
+
+        for (ArchivedArticle article : articles) {
+            LocalDateTime createdAt = article.getCreatedAt();
+            if (minCreatedAt == null || createdAt.isBefore(minCreatedAt)) {
+                minCreatedAt = createdAt;
+            }
+            if (maxCreatedAt == null || createdAt.isAfter(maxCreatedAt)) {
+                maxCreatedAt = createdAt;
+            }
+            LocalDateTime publishedAt = article.getPublishedAt();
+            if (publishedAt != null && (maxPublishedAt == null || publishedAt.isAfter(maxPublishedAt))) {
+                maxPublishedAt = publishedAt;
+            }
+        }
+        return new DaySummary(fileSize, articles.size(), minCreatedAt, maxCreatedAt, maxPublishedAt);
+    }
+
+    private void appendToDayFile(LocalDate day, List<ArchivedArticle> articles) throws IOException {
+        Path file = dayFile(day);
+        Files.createDirectories(file.getParent());
+        // 기록 전에 기존 요약을 확정 (요약이 없던 날짜는 이 시점에 한 번 읽어서 만듦)
+        DaySummary previous = summary(day);
+
+        FileOutputStream fileOut = new FileOutputStream(file.toFile(), true);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(new BufferedOutputStream(fileOut))) {
+            for (ArchivedArticle article : articles) {
+                gzipOut.write(objectMapper.writeValueAsBytes(article));
+                gzipOut.write('\n');
+            }
+            gzipOut.finish();
+            gzipOut.flush();
+            fileOut.getFD().sync();
+        }
+
+        DaySummary appended = summarize(Files.size(file), articles);
+        writeSummary(day, previous == null ? appended : merge(previous, appended));
+    }
+
+    /**
+     * 같은 기사가 다시 보관된 경우(삭제 롤백 후 재시도)의 중복은 읽을 때 걸러지고 기사 수는 약간 크게 잡힘
+     */
+    private static DaySummary merge(DaySummary a, DaySummary b) {
+        return new DaySummary(b.fileSize(), a.count() + b.count(),
+                min(a.minCreatedAt(), b.minCreatedAt()),
+                max(a.maxCreatedAt(), b.maxCreatedAt()),
+                max(a.maxPublishedAt(), b.maxPublishedAt()));
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a == null ? b : b == null ? a : a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a == null ? b : b == null ? a : a.isAfter(b) ? a : b;
+    }
+
+    private void writeSummary(LocalDate day, DaySummary summary) throws IOException {
+        Path summaryFile = summaryFile(day);
+        Path temp = summaryFile.resolveSibling(SUMMARY_FILE_NAME + ".tmp");
+        objectMapper.writeValue(temp.toFile(), summary);
+        Files.move(temp, summaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 날짜 파일 전체 (같은 기사가 두 번 보관된 경우 한 번만)
+     */
+    private Collection<ArchivedArticle> readDay(LocalDate day) {
+        Path file = dayFile(day);
+        Map<Long, ArchivedArticle> articles = new LinkedHashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    ArchivedArticle article = objectMapper.readValue(line, ArchivedArticle.class);
+                    articles.put(article.getId(), article);
+                }
+            }
+        } catch (EOFException e) {
+            log.warn("보관 파일 끝이 손상되어 일부만 읽었습니다: {} ({}개)", file, articles.size());
+        } catch (IOException e) {
+            log.error("보관 파일 읽기 실패: {} - {}", file, e.getMessage());
+        }
+
+        return articles.values();
+    }
+
+    private Path dayFile(LocalDate day) {
+        return Paths.get(archiveConfig.getDirectory(), DAY_DIRECTORY_PREFIX + day, ARCHIVE_FILE_NAME);
+    }
+
+    private Path summaryFile(LocalDate day) {
+        return Paths.get(archiveConfig.getDirectory(), DAY_DIRECTORY_PREFIX + day, SUMMARY_FILE_NAME);
+    }
+}
@@ -0,0 +1,157 @@
+package com.newscrawler.service;
+
+import com.newscrawler.event.ArticleDataVersionChangedEvent;
+import com.newscrawler.event.ArticlesDeletedEvent;
+import com.newscrawler.event.ArticlesSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 기사 데이터 버전 (수집/정리 커밋마다 증가)
+ * 목록 API의 ETag/Last-Modified 계산에 사용
+ * - article_data_version 단일 행에 저장해 여러 인스턴스가 같은 버전으로 같은 ETag를 만듦
+ * - 이 인스턴스의 커밋은 즉시 반영하고, 다른 인스턴스의 커밋은 주기적으로 다시 읽어 반영
+ * - Last-Modified는 초 단위로 올림하고 변경마다 최소 1초씩 증가시켜, 같은 초 안의 변경 전후 응답이 같은 값을 갖지 않게 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleDataVersion {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile State state = new State(0, ceilToSecond(System.currentTimeMillis()));
+
+    private record State(long version, long lastModifiedMillis) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            State loaded = load();
+            if (loaded.lastModifiedMillis() == 0) {
+                // 테이블을 처음 만든 경우 변경 시각부터 기록
+                bump();
+            } else {
+                state = loaded;
+            }
+        } catch (Exception e) {
+            // 보조 스키마를 아직 적용하지 않은 경우 (운영은 시작 시 스크립트를 실행하지 않음) 메모리 값으로 동작
+            log.warn("데이터 버전 적재 실패, 인스턴스 메모리 값 사용: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        bump();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesDeleted(ArticlesDeletedEvent event) {
+        bump();
+    }
+
+    /**
+     * 다른 인스턴스가 올린 버전 반영
+     */
+    @Scheduled(fixedDelayString = "${data-version.refresh-interval-ms:5000}",
+               initialDelayString = "${data-version.refresh-interval-ms:5000}")
+    public void refresh() {
+        try {
+            State loaded = load();
+            State current = state;
+            if (loaded.version() > current.version()) {
+                state = loaded;
+                log.debug("다른 인스턴스의 데이터 버전 반영: {} → {}", current.version(), loaded.version());
+                eventPublisher.publishEvent(new ArticleDataVersionChangedEvent(loaded.version()));
+            }
+        } catch (Exception e) {
+            log.warn("데이터 버전 재확인 실패: {}", e.getMessage());
+        }
+    }
+
+    public long getVersion() {
+        return state.version();
+    }
+
+    /**
+     * 마지막 변경 시각 (HTTP 날짜 헤더 정밀도에 맞춰 초 단위)
+     */
+    public long getLastModifiedMillis() {
+        return state.lastModifiedMillis();
+    }
+
+    /**
+     * 현재 버전과 요청 구분값(경로, 파라미터 등)으로 만든 ETag 값 (따옴표 제외)
+     * 변경 시각을 포함해 DB를 새로 만들어 버전이 0부터 다시 시작해도 이전 ETag와 겹치지 않음
+     */
+    public String eTag(String... parts) {
+        CRC32 crc = new CRC32();
+        for (String part : parts) {
+            if (part != null) {
+                crc.update(part.getBytes(StandardCharsets.UTF_8));
+            }
+            crc.update(0);
+        }
+        State current = state;
+        return Long.toString(current.lastModifiedMillis() / 1000, 36) + "-" + current.version() + "-"
+                + Long.toString(crc.getValue(), 36);
+    }
+
+    /**
+     * 커밋 이후에 호출되므로 별도 트랜잭션에서 행을 잠그고 증가
+     */
+    private void bump() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            State next = template.execute(status -> {
+                State stored = jdbcTemplate.queryForObject(
+                        "SELECT version, last_modified_ms FROM article_data_version WHERE id = 1 FOR UPDATE",
+                        (rs, rowNum) -> new State(rs.getLong("version"), rs.getLong("last_modified_ms")));
+                State bumped = next(stored);
+                jdbcTemplate.update("UPDATE article_data_version SET version = ?, last_modified_ms = ? WHERE id = 1",
+                        bumped.version(), bumped.lastModifiedMillis());
+                return bumped;
+            });
+            state = next;
+        } catch (Exception e) {
+            // 공유 행을 못 쓰면 이 인스턴스만이라도 갱신 (다음 성공 시 공유 버전으로 다시 맞춰짐)
+            log.warn("데이터 버전 저장 실패, 메모리 값만 증가: {}", e.getMessage());
+            state = next(state);
+        }
+        log.debug("기사 데이터 버전 증가: {}", state.version());
+    }
+
+    private State load() {
+        List<State> rows = jdbcTemplate.query(
+                "SELECT version, last_modified_ms FROM article_data_version WHERE id = 1",
+                (rs, rowNum) -> new State(rs.getLong("version"), rs.getLong("last_modified_ms")));
+        return rows.isEmpty() ? new State(0, 0) : rows.get(0);
+    }
+
+    private static State next(State current) {
+        long lastModified = Math.max(current.lastModifiedMillis() + 1000, ceilToSecond(System.currentTimeMillis()));
+        return new State(current.version() + 1, lastModified);
+    }
+
+    private static long ceilToSecond(long millis) {
+        return (millis + 999) / 1000 * 1000;
+    }
+}
@@ -0,0 +1,203 @@
+package com.newscrawler.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 출처/카테고리 사전 (sources, categories 테이블의 id ↔ 이름 양방향 맵)
+ * - articles, article_daily_stats에는 작은 정수 id만 저장하고, 엔티티/DTO에서는 변환기를 거쳐 이름으로 다룸
+ * - 새 이름은 수집 시 registerAll()로 배치마다 한 번에 추가 (조회 파라미터로 들어온 이름은 추가하지 않음)
+ * - 변환기에서는 메모리 맵만 읽음 (DB 조회 없음). 다른 인스턴스가 추가한 id는 주기적 재적재로 반영
+ * 스키마 전환은 db/postgresql/dictionary-*.sql을 수동으로 실행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleDictionaryService {
+
+    // 사전에 없는 이름으로 조회할 때 사용하는 id (어떤 행과도 일치하지 않음)
+    public static final short UNKNOWN_ID = -1;
+
+    public enum Kind {
+        SOURCE("sources"),
+        CATEGORY("categories");
+
+        private final String table;
+
+        Kind(String table) {
+            this.table = table;
+        }
+
+        public String table() {
+            return table;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // 재적재 시 통째로 교체 (조회 측은 잠금 없이 읽음)
+    private volatile Map<Kind, Map<String, Short>> idsByName;
+    private volatile Map<Kind, Map<Short, String>> namesById;
+    private final AtomicBoolean missLogged = new AtomicBoolean();
+
+    /**
+     * 다른 시작 작업(색인 재구성, 집계 초기화 등)이 기사를 읽기 전에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 다른 인스턴스가 추가한 항목 반영
+     */
+    @Scheduled(fixedDelayString = "${dictionary.refresh-interval-ms:60000}",
+               initialDelayString = "${dictionary.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("사전 재적재 실패: {}", e.getMessage());
+        }
+    }
+
+    public Short idOf(Kind kind, String name) {
+        if (name == null) {
+            return null;
+        }
+        ensureLoaded();
+        Short id = idsByName.get(kind).get(name);
+        return id != null ? id : UNKNOWN_ID;
+    }
+
+    /**
+     * 메모리 맵에 없는 id는 null (다른 인스턴스가 방금 추가한 항목으로, 다음 재적재 후 보임)
+     */
+    public String nameOf(Kind kind, Short id) {
+        if (id == null) {
+            return null;
+        }
+        ensureLoaded();
+        String name = namesById.get(kind).get(id);
+        if (name == null && missLogged.compareAndSet(false, true)) {
+            log.warn("사전에 없는 id: {} {} (다음 재적재 전까지 이름 없이 반환)", kind, id);
+        }
+        return name;
+    }
+
+    public short register(Kind kind, String name) {
+        registerAll(kind, List.of(name));
+        return idsByName.get(kind).get(name);
+    }
+
+    /**
+     * 사전에 없는 이름만 추가 (모두 등록된 이름이면 DB를 조회하지 않음)
+     * 수집 트랜잭션을 시작하기 전에 배치마다 한 번 호출. 새 이름은 처음 보는 출처/카테고리에서만 생기므로 드묾
+     * 이름마다 짧은 트랜잭션으로 커밋해 (PostgreSQL은 중복 키 오류 후 트랜잭션을 계속 쓸 수 없음),
+     * 기사 저장이 롤백되어도 사전과 맵이 어긋나지 않게 함
+     */
+    public synchronized void registerAll(Kind kind, Collection<String> names) {
+        ensureLoaded();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String name : names) {
+            if (name != null && !idsByName.get(kind).containsKey(name)) {
+                missing.add(name);
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+        for (String name : missing) {
+            template.executeWithoutResult(status -> insertIfAbsent(kind, name));
+        }
+
+        List<Object> args = new ArrayList<>(missing);
+        String placeholders = String.join(", ", Collections.nCopies(missing.size(), "?"));
+        jdbcTemplate.query("SELECT id, name FROM " + kind.table() + " WHERE name IN (" + placeholders + ")",
+                rs -> {
+                    put(kind, rs.getShort("id"), rs.getString("name"));
+                }, args.toArray());
+        log.info("사전 항목 추가: {} {}", kind, missing);
+    }
+
+    public List<String> names(Kind kind) {
+        ensureLoaded();
+        return new ArrayList<>(idsByName.get(kind).keySet());
+    }
+
+    /**
+     * 테이블에서 전체 사전 다시 읽기
+     */
+    public synchronized void reload() {
+        Map<Kind, Map<String, Short>> freshIds = new EnumMap<>(Kind.class);
+        Map<Kind, Map<Short, String>> freshNames = new EnumMap<>(Kind.class);
+
+        for (Kind kind : Kind.values()) {
+            Map<String, Short> ids = new ConcurrentHashMap<>();
+            Map<Short, String> names = new ConcurrentHashMap<>();
+            jdbcTemplate.query("SELECT id, name FROM " + kind.table(), rs -> {
+                ids.put(rs.getString("name"), rs.getShort("id"));
+                names.put(rs.getShort("id"), rs.getString("name"));
+            });
+            freshIds.put(kind, ids);
+            freshNames.put(kind, names);
+        }
+
+        namesById = freshNames;
+        idsByName = freshIds;
+        missLogged.set(false);
+    }
+
+    private void insertIfAbsent(Kind kind, String name) {
+        try {
+            jdbcTemplate.update("INSERT INTO " + kind.table() + " (name) SELECT ? WHERE NOT EXISTS " +
+                    "(SELECT 1 FROM " + kind.table() + " WHERE name = ?)", name, name);
+        } catch (DuplicateKeyException e) {
+            log.debug("다른 인스턴스가 먼저 추가한 사전 항목: {} {}", kind, name);
+        }
+    }
+
+    /**
+     * 시작 이벤트 이전에 기사를 읽는 경우에만 한 번 적재
+     */
+    private void ensureLoaded() {
+        if (idsByName == null) {
+            reload();
+        }
+    }
+
+    private void put(Kind kind, short id, String name) {
+        idsByName.get(kind).put(name, id);
+        namesById.get(kind).put(id, name);
+    }
+}
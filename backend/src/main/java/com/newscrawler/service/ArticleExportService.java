@@ -0,0 +1,87 @@
+package com.newscrawler.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.newscrawler.dto.ArchivedArticle;
+import com.newscrawler.entity.Article;
+import com.newscrawler.repository.ArticleRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 기사 NDJSON 내보내기
+ * - 커서 조회 결과를 한 줄씩 바로 응답 스트림에 기록하고, 기록한 엔티티는 즉시 detach
+ * - 행 수와 관계없이 메모리 사용량이 일정하게 유지됨
+ * - 읽기 전용 트랜잭션으로 실행되므로 복제본 라우팅이 켜져 있으면 복제본에서 읽음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleExportService {
+
+    private static final LocalDateTime EXPORT_MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ArticleRepository articleRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 조건에 맞는 기사를 ID 순으로 NDJSON 기록
+     *
+     * @return 기록한 기사 수
+     */
+    public long export(LocalDateTime since, LocalDateTime until, String source, String category,
+                       OutputStream out) {
+        LocalDateTime from = since != null ? since : EXPORT_MIN_DATE;
+        LocalDateTime to = until != null ? until : LocalDateTime.now();
+
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        TransactionTemplate readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+
+        Long exportedCount = readOnlyTemplate.execute(status -> {
+            long count = 0;
+
+            try (Stream<Article> articles = articleRepository.streamForExport(from, to, source, category);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+
+                Iterator<Article> iterator = articles.iterator();
+                while (iterator.hasNext()) {
+                    Article article = iterator.next();
+                    writer.writeValue(generator, ArchivedArticle.from(article));
+                    generator.writeRaw('\n');
+                    entityManager.detach(article);
+
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("기사 내보내기 기록 실패", e);
+            }
+
+            return count;
+        });
+
+        log.info("기사 내보내기 완료 - {}개 (since: {}, until: {}, source: {}, category: {})",
+                exportedCount, from, to, source, category);
+        return exportedCount != null ? exportedCount : 0;
+    }
+}
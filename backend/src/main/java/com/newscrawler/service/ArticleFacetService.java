@@ -0,0 +1,296 @@
+package com.newscrawler.service;
+
+import com.newscrawler.dto.ArticleFacetsResponse;
+import com.newscrawler.entity.Article;
+import com.newscrawler.event.ArticlesDeletedEvent;
+import com.newscrawler.event.ArticlesSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 수집일 × 출처 × 카테고리 기사 수를 메모리에 두고 필터 사이드바용 집계를 DB 조회 없이 응답
+ * - 시작 시 집계 테이블(article_daily_stats)에서 재구성, 이후 저장 이벤트로 증분 갱신
+ *   (신규 기사는 +1, 카테고리가 바뀐 기사는 옛 카테고리 -1 / 새 카테고리 +1)
+ * - 삭제 이벤트가 오면 집계 테이블 기준으로 재구성
+ * - 재구성 중 들어온 증분은 모아 두었다가 새 테이블로 교체하기 직전에 다시 반영
+ * - 커밋 직후 이벤트가 오기 전 잠깐 사이에 재구성이 읽은 기사는 두 번 셀 수 있으며, 주기적 재구성으로 맞춤
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleFacetService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleDictionaryService dictionaryService;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private FacetTable table = new FacetTable();
+    private List<Delta> pendingDuringRebuild;
+
+    private record Delta(LocalDate day, String source, String category, long count) {
+    }
+
+    /**
+     * 집계 테이블 초기화(ArticleStatsService) 이후 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        List<Delta> deltas = new ArrayList<>();
+        for (Article article : event.inserted()) {
+            deltas.add(new Delta(article.getCreatedAt().toLocalDate(), article.getSource(), article.getCategory(), 1));
+        }
+        for (Article article : event.updated()) {
+            String previousCategory = event.previousCategories().get(article.getId());
+            if (previousCategory != null) {
+                LocalDate day = article.getCreatedAt().toLocalDate();
+                deltas.add(new Delta(day, article.getSource(), previousCategory, -1));
+                deltas.add(new Delta(day, article.getSource(), article.getCategory(), 1));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            deltas.forEach(table::apply);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.addAll(deltas);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesDeleted(ArticlesDeletedEvent event) {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${facets.reconcile-interval-ms:600000}",
+               initialDelayString = "${facets.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    /**
+     * 집계 테이블 기준으로 전체 재구성 (행 수가 날짜 × 출처 × 카테고리 조합이라 작음)
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            FacetTable fresh = new FacetTable();
+            jdbcTemplate.query("SELECT stat_date, source_id, category_id, article_count FROM article_daily_stats",
+                    rs -> {
+                        fresh.add(rs.getDate("stat_date").toLocalDate(),
+                                dictionaryService.nameOf(ArticleDictionaryService.Kind.SOURCE, rs.getShort("source_id")),
+                                dictionaryService.nameOf(ArticleDictionaryService.Kind.CATEGORY, rs.getShort("category_id")),
+                                rs.getLong("article_count"));
+                    });
+
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild.forEach(fresh::apply);
+                table = fresh;
+            } finally {
+                pendingDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+            log.debug("기사 집계 메모리 재구성 완료: {}개 조합", fresh.size);
+        } catch (Exception e) {
+            log.error("기사 집계 메모리 재구성 중 오류 발생: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 기간(수집일 기준, 양 끝 포함) 집계
+     * category/source를 지정하면 해당 조건에 맞는 기사만 집계
+     */
+    public ArticleFacetsResponse getFacets(LocalDate from, LocalDate to, String category, String source,
+                                           boolean includeCells) {
+        Map<String, Long> categories = new HashMap<>();
+        Map<String, Long> sources = new HashMap<>();
+        Map<LocalDate, Long> days = new TreeMap<>();
+        List<ArticleFacetsResponse.Cell> cells = includeCells ? new ArrayList<>() : null;
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            FacetTable current = table;
+            long fromDay = from.toEpochDay();
+            long toDay = to.toEpochDay();
+
+            for (int slot = 0; slot < current.keys.length; slot++) {
+                long count = current.counts[slot];
+                if (count <= 0) {
+                    continue;
+                }
+
+                long key = current.keys[slot];
+                long epochDay = key >> 32;
+                if (epochDay < fromDay || epochDay > toDay) {
+                    continue;
+                }
+                String sourceName = current.sourceNames.get((int) (key >>> 16) & 0xFFFF);
+                String categoryName = current.categoryNames.get((int) key & 0xFFFF);
+                if ((category != null && !category.equals(categoryName))
+                        || (source != null && !source.equals(sourceName))) {
+                    continue;
+                }
+
+                LocalDate day = LocalDate.ofEpochDay(epochDay);
+                categories.merge(categoryName, count, Long::sum);
+                sources.merge(sourceName, count, Long::sum);
+                days.merge(day, count, Long::sum);
+                if (cells != null) {
+                    cells.add(new ArticleFacetsResponse.Cell(day, sourceName, categoryName, count));
+                }
+                total += count;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (cells != null) {
+            cells.sort(Comparator.comparing(ArticleFacetsResponse.Cell::date)
+                    .thenComparing(ArticleFacetsResponse.Cell::source)
+                    .thenComparing(ArticleFacetsResponse.Cell::category));
+        }
+
+        return ArticleFacetsResponse.builder()
+                .from(from)
+                .to(to)
+                .totalCount(total)
+                .categories(byCountDesc(categories))
+                .sources(byCountDesc(sources))
+                .days(days)
+                .cells(cells)
+                .build();
+    }
+
+    private static Map<String, Long> byCountDesc(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * (수집일, 출처, 카테고리) → 기사 수 오픈 어드레싱 해시 테이블
+     * 키는 epochDay 상위 32비트 + 출처 번호 16비트 + 카테고리 번호 16비트로 묶은 long
+     */
+    private static final class FacetTable {
+
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private final Map<String, Integer> sourceIndex = new HashMap<>();
+        private final Map<String, Integer> categoryIndex = new HashMap<>();
+        private final List<String> sourceNames = new ArrayList<>();
+        private final List<String> categoryNames = new ArrayList<>();
+        private long[] keys = newKeys(1024);
+        private long[] counts = new long[1024];
+        private int size;
+
+        void apply(Delta delta) {
+            add(delta.day(), delta.source(), delta.category(), delta.count());
+        }
+
+        void add(LocalDate day, String source, String category, long delta) {
+            long key = (day.toEpochDay() << 32)
+                    | ((long) intern(source, sourceIndex, sourceNames) << 16)
+                    | intern(category, categoryIndex, categoryNames);
+
+            int slot = find(keys, key);
+            if (keys[slot] == EMPTY) {
+                if ((size + 1) * 4 > keys.length * 3) {
+                    grow();
+                    slot = find(keys, key);
+                }
+                keys[slot] = key;
+                size++;
+            }
+            counts[slot] += delta;
+        }
+
+        private static int intern(String name, Map<String, Integer> index, List<String> names) {
+            Integer id = index.get(name);
+            if (id == null) {
+                if (names.size() > 0xFFFF) {
+                    throw new IllegalStateException("집계 가능한 출처/카테고리 수를 초과했습니다");
+                }
+                id = names.size();
+                names.add(name);
+                index.put(name, id);
+            }
+            return id;
+        }
+
+        private static int find(long[] keys, long key) {
+            int mask = keys.length - 1;
+            int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldCounts = counts;
+            keys = newKeys(oldKeys.length * 2);
+            counts = new long[oldKeys.length * 2];
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = find(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+
+        private static long[] newKeys(int capacity) {
+            long[] keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.newscrawler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newscrawler.config.IngestBufferConfig;
+import com.newscrawler.dto.ArchivedArticle;
+import com.newscrawler.entity.Article;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 크롤링 결과 쓰기 지연(write-behind) 버퍼
+ * - 크롤러는 기사를 저널에 기록(fsync)하고 제한된 큐에 넣은 뒤 바로 다음 작업으로 넘어감
+ * - 전용 스레드가 개수(batch-size) 또는 시간(flush-interval-ms) 기준으로 모아 ArticleIngestService로 저장
+ * - 큐가 완전히 비워지면 저널을 비우고, 재시작 시 남아 있는 저널을 다시 적재
+ *   (저장은 출처 + 링크 기준 upsert라 이미 저장된 기사가 다시 들어와도 변경 없음으로 처리됨)
+ * - 여러 번 재시도해도 저장되지 않는 배치는 버리지 않고 dead-letter 파일로 옮긴 뒤 다음 배치를 처리
+ *   (원인을 고친 뒤 파일 내용을 저널 파일로 옮기고 재시작하면 다시 적재됨)
+ * 지표: ingest.buffer.queue.depth, ingest.buffer.flush, ingest.buffer.flush.failures,
+ *       ingest.buffer.journal.replayed, ingest.buffer.dead.lettered
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleIngestBuffer {
+
+    static final String JOURNAL_FILE_NAME = "ingest-journal.ndjson";
+    static final String DEAD_LETTER_FILE_NAME = "ingest-dead-letter.ndjson";
+    private static final int MAX_FLUSH_ATTEMPTS = 5;
+    private static final long SHUTDOWN_TIMEOUT_MS = 30000;
+
+    private final IngestBufferConfig bufferConfig;
+    private final ArticleIngestService articleIngestService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Object journalLock = new Object();
+    private final AtomicInteger submitting = new AtomicInteger();
+    private final Deque<Article> replayBacklog = new ArrayDeque<>();
+
+    private BlockingQueue<Article> queue;
+    private FileChannel journal;
+    private Thread writer;
+    private volatile boolean running;
+
+    private Timer flushTimer;
+    private Counter flushFailures;
+    private Counter deadLettered;
+
+    public boolean isEnabled() {
+        return bufferConfig.isEnabled();
+    }
+
+    @PostConstruct
+    public void initialize() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(bufferConfig.getCapacity());
+        Gauge.builder("ingest.buffer.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 기사 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("ingest.buffer.flush")
+                .description("버퍼 배치 저장 소요 시간")
+                .register(meterRegistry);
+        flushFailures = Counter.builder("ingest.buffer.flush.failures")
+                .description("버퍼 배치 저장 실패 횟수")
+                .register(meterRegistry);
+        deadLettered = Counter.builder("ingest.buffer.dead.lettered")
+                .description("재시도를 모두 실패해 dead-letter 파일로 옮긴 기사 수")
+                .register(meterRegistry);
+
+        if (bufferConfig.isJournalEnabled()) {
+            Path journalFile = Paths.get(bufferConfig.getJournalDirectory(), JOURNAL_FILE_NAME);
+            Files.createDirectories(journalFile.getParent());
+            if (Files.exists(journalFile)) {
+                replayBacklog.addAll(readJournal(journalFile));
+            }
+            journal = FileChannel.open(journalFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+
+        Counter.builder("ingest.buffer.journal.replayed")
+                .description("재시작 시 저널에서 다시 적재한 기사 수")
+                .register(meterRegistry)
+                .increment(replayBacklog.size());
+        if (!replayBacklog.isEmpty()) {
+            log.info("수집 저널에서 기사 {}개 재적재", replayBacklog.size());
+        }
+    }
+
+    /**
+     * 사전 전환 등 시작 작업이 끝난 뒤 저장 스레드 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWriter() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        running = true;
+        writer = new Thread(this::runWriter, "ingest-buffer-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 기사를 저널에 기록한 뒤 큐에 적재 (큐가 가득 차면 빈자리가 날 때까지 대기)
+     */
+    public void submit(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+
+        synchronized (journalLock) {
+            submitting.incrementAndGet();
+            appendToJournal(articles);
+        }
+
+        try {
+            for (Article article : articles) {
+                queue.put(article);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("수집 버퍼 적재 중 인터럽트 (저널에 기록된 기사는 재시작 시 저장됨)", e);
+        } finally {
+            submitting.decrementAndGet();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException, IOException {
+        if (writer != null) {
+            running = false;
+            writer.join(SHUTDOWN_TIMEOUT_MS);
+            if (writer.isAlive()) {
+                log.warn("수집 버퍼를 모두 저장하지 못하고 종료합니다 (남은 기사 {}개는 저널에서 재적재)", queue.size());
+            }
+        }
+        if (journal != null) {
+            synchronized (journalLock) {
+                journal.close();
+            }
+        }
+    }
+
+    private void runWriter() {
+        List<Article> batch = new ArrayList<>(bufferConfig.getBatchSize());
+        int attempts = 0;
+
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    fillBatch(batch);
+                    if (batch.isEmpty()) {
+                        continue;
+                    }
+                }
+
+                List<Article> toSave = batch;
+                flushTimer.record(() -> articleIngestService.ingest(toSave));
+                batch.clear();
+                attempts = 0;
+                truncateJournalQuietly();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                flushFailures.increment();
+                attempts++;
+                log.error("수집 버퍼 저장 실패 ({}회째, 기사 {}개): {}", attempts, batch.size(), e.getMessage());
+
+                if (attempts >= MAX_FLUSH_ATTEMPTS && moveToDeadLetter(batch)) {
+                    batch.clear();
+                    attempts = 0;
+                    truncateJournalQuietly();
+                } else if (!running) {
+                    break;
+                } else {
+                    sleepQuietly(bufferConfig.getFlushIntervalMs());
+                }
+            }
+        }
+    }
+
+    /**
+     * 첫 기사를 기다린 뒤 batch-size가 차거나 flush-interval-ms가 지날 때까지 모음
+     * 재시작 시 재적재한 기사가 있으면 그것부터 처리
+     */
+    private void fillBatch(List<Article> batch) throws InterruptedException {
+        int batchSize = bufferConfig.getBatchSize();
+        while (!replayBacklog.isEmpty() && batch.size() < batchSize) {
+            batch.add(replayBacklog.poll());
+        }
+        if (!batch.isEmpty()) {
+            return;
+        }
+
+        Article first = queue.poll(bufferConfig.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(bufferConfig.getFlushIntervalMs());
+        while (batch.size() < batchSize && running) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            Article next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        queue.drainTo(batch, batchSize - batch.size());
+    }
+
+    private void appendToJournal(List<Article> articles) {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(toNdjson(articles));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            submitting.decrementAndGet();
+            throw new UncheckedIOException("수집 저널 기록 실패", e);
+        }
+    }
+
+    /**
+     * 저장을 포기한 배치를 dead-letter 파일에 기록 (fsync 후에야 배치를 비우므로 저널 정리로 유실되지 않음)
+     * 기록에도 실패하면 false를 반환하고 배치를 그대로 두어 계속 재시도
+     */
+    private boolean moveToDeadLetter(List<Article> batch) {
+        Path file = Paths.get(bufferConfig.getJournalDirectory(), DEAD_LETTER_FILE_NAME);
+
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(toNdjson(batch));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            log.error("dead-letter 파일 기록 실패, 배치를 계속 재시도합니다: {}", e.getMessage());
+            return false;
+        }
+
+        deadLettered.increment(batch.size());
+        log.error("저장을 포기한 기사 {}개를 dead-letter 파일로 옮김: {} - {}",
+                batch.size(), file, batch.stream().map(Article::getLink).toList());
+        return true;
+    }
+
+    /**
+     * 저널에 기록된 기사가 모두 저장되었으면 저널 비우기
+     */
+    private void truncateJournalIfDrained() throws IOException {
+        if (journal == null) {
+            return;
+        }
+
+        synchronized (journalLock) {
+            if (submitting.get() == 0 && queue.isEmpty() && replayBacklog.isEmpty()) {
+                journal.truncate(0);
+                journal.force(true);
+            }
+        }
+    }
+
+    private void truncateJournalQuietly() {
+        try {
+            truncateJournalIfDrained();
+        } catch (IOException e) {
+            log.warn("수집 저널 정리 실패 (다음 저장 후 다시 시도): {}", e.getMessage());
+        }
+    }
+
+    private byte[] toNdjson(List<Article> articles) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (Article article : articles) {
+            lines.write(objectMapper.writeValueAsBytes(ArchivedArticle.from(article)));
+            lines.write('\n');
+        }
+        return lines.toByteArray();
+    }
+
+    private List<Article> readJournal(Path journalFile) throws IOException {
+        List<Article> articles = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    articles.add(objectMapper.readValue(line, ArchivedArticle.class).toArticle());
+                } catch (IOException e) {
+                    // 기록 도중 종료된 마지막 줄
+                    log.warn("수집 저널의 손상된 줄을 건너뜁니다: {}", e.getMessage());
+                }
+            }
+        }
+
+        return articles;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
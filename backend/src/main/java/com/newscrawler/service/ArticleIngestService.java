@@ -0,0 +1,198 @@
+package com.newscrawler.service;
+
+import com.newscrawler.entity.Article;
+import com.newscrawler.event.ArticlesSavedEvent;
+import com.newscrawler.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 크롤링 결과 저장 (출처 + 링크 기준 upsert)
+ * - 처음 보는 기사는 INSERT
+ * - 내용 해시가 달라진 기사는 기존 행을 UPDATE (updatedAt 갱신)
+ * - 내용이 같은 기사는 아무것도 기록하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleIngestService {
+
+    // articles.title/link/image_url 컬럼 길이
+    private static final int MAX_TEXT_LENGTH = 500;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleStatsService articleStatsService;
+    private final ArticleDictionaryService dictionaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public record IngestResult(List<Article> inserted, List<Article> updated, int unchangedCount) {
+
+        public int changedCount() {
+            return inserted.size() + updated.size();
+        }
+    }
+
+    private record Change(Article existing, Article incoming) {
+    }
+
+    public IngestResult ingest(List<Article> articles) {
+        // 처음 보는 출처/카테고리는 수집 트랜잭션을 시작하기 전에 배치당 한 번 사전에 등록
+        dictionaryService.registerAll(ArticleDictionaryService.Kind.SOURCE,
+                articles.stream().map(Article::getSource).toList());
+        dictionaryService.registerAll(ArticleDictionaryService.Kind.CATEGORY,
+                articles.stream().map(Article::getCategory).toList());
+
+        return transactionTemplate.execute(status -> write(articles));
+    }
+
+    private IngestResult write(List<Article> articles) {
+        Map<String, Map<String, Article>> incomingBySource = new LinkedHashMap<>();
+        for (Article article : articles) {
+            String violation = findConstraintViolation(article);
+            if (violation != null) {
+                log.warn("기사 저장 제외 - 제목: {}, 사유: {}", article.getTitle(), violation);
+                continue;
+            }
+            // 한 번의 크롤링에서 같은 링크가 여러 번 나오면 마지막 것만 반영
+            incomingBySource.computeIfAbsent(article.getSource(), source -> new LinkedHashMap<>())
+                    .put(article.getLink(), article);
+        }
+
+        List<Article> inserted = new ArrayList<>();
+        List<Article> updated = new ArrayList<>();
+        Map<Long, String> previousCategories = new HashMap<>();
+        int unchangedCount = 0;
+
+        for (Map.Entry<String, Map<String, Article>> entry : incomingBySource.entrySet()) {
+            Map<String, Article> incomingByLink = entry.getValue();
+            Map<String, Article> existingByLink = new HashMap<>();
+            for (Article existing : articleRepository.findBySourceAndLinkIn(entry.getKey(), incomingByLink.keySet())) {
+                existingByLink.merge(existing.getLink(), existing,
+                        (a, b) -> a.getId() <= b.getId() ? a : b);
+            }
+
+            List<Article> toInsert = new ArrayList<>();
+            List<Change> changes = new ArrayList<>();
+            for (Article incoming : incomingByLink.values()) {
+                Article existing = existingByLink.get(incoming.getLink());
+                if (existing == null) {
+                    toInsert.add(incoming);
+                    continue;
+                }
+
+                String incomingHash = incoming.computeContentHash();
+                if (incomingHash.equals(existing.getContentHash())) {
+                    unchangedCount++;
+                } else if (existing.getContentHash() == null && incomingHash.equals(existing.computeContentHash())) {
+                    // 해시 컬럼 추가 이전 기사: 내용이 같으면 해시만 채움 (updatedAt 유지)
+                    articleRepository.updateContentHash(existing.getId(), incomingHash);
+                    unchangedCount++;
+                } else {
+                    changes.add(new Change(existing, incoming));
+                }
+            }
+
+            inserted.addAll(insert(toInsert));
+            updated.addAll(update(changes, previousCategories));
+        }
+
+        if (!inserted.isEmpty()) {
+            articleStatsService.recordSaved(inserted);
+        }
+        if (inserted.size() + updated.size() > 0) {
+            eventPublisher.publishEvent(new ArticlesSavedEvent(inserted, updated, previousCategories));
+        }
+
+        log.debug("기사 저장 결과 - 신규: {}개, 변경: {}개, 변경 없음: {}개",
+                inserted.size(), updated.size(), unchangedCount);
+        return new IngestResult(inserted, updated, unchangedCount);
+    }
+
+    private List<Article> insert(List<Article> articles) {
+        List<Article> saved = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            saved.add(articleRepository.save(article));
+        }
+        return saved;
+    }
+
+    /**
+     * 컬럼 제약(NOT NULL/길이)을 어기는 기사는 INSERT/UPDATE 전에 걸러냄
+     * 저장 예외를 잡아 넘기면 바깥 트랜잭션이 rollback-only가 되어 배치 전체가 커밋 시점에 실패하므로,
+     * 예상 가능한 실패는 미리 거르고 그 밖의 오류는 그대로 전파해 배치를 롤백함
+     */
+    private static String findConstraintViolation(Article article) {
+        if (article.getSource() == null) {
+            return "출처 없음";
+        }
+        if (article.getTitle() == null || article.getTitle().length() > MAX_TEXT_LENGTH) {
+            return "제목 없음 또는 " + MAX_TEXT_LENGTH + "자 초과";
+        }
+        if (article.getLink() == null || article.getLink().length() > MAX_TEXT_LENGTH) {
+            return "링크 없음 또는 " + MAX_TEXT_LENGTH + "자 초과";
+        }
+        if (article.getImageUrl() != null && article.getImageUrl().length() > MAX_TEXT_LENGTH) {
+            return "이미지 URL " + MAX_TEXT_LENGTH + "자 초과";
+        }
+        return null;
+    }
+
+    /**
+     * 변경된 필드만 기존 엔티티에 복사 (커밋 시 dirty checking으로 UPDATE, @PreUpdate가 updatedAt/해시 갱신)
+     * 카테고리가 바뀐 기사는 집계에서 옛 카테고리를 빼고 새 카테고리로 다시 더함 (옛 카테고리는 previousCategories에 기록)
+     */
+    private List<Article> update(List<Change> changes, Map<Long, String> previousCategories) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> recategorizedIds = new HashSet<>();
+        for (Change change : changes) {
+            if (!Objects.equals(change.existing().getCategory(), change.incoming().getCategory())) {
+                recategorizedIds.add(change.existing().getId());
+                previousCategories.put(change.existing().getId(), change.existing().getCategory());
+            }
+        }
+        // 엔티티를 수정하기 전에 옛 카테고리 기준으로 차감
+        articleStatsService.recordDeleted(List.copyOf(recategorizedIds));
+
+        List<Article> updated = new ArrayList<>(changes.size());
+        List<Article> recategorized = new ArrayList<>();
+        for (Change change : changes) {
+            Article existing = change.existing();
+            Article incoming = change.incoming();
+
+            existing.setTitle(incoming.getTitle());
+            existing.setSummary(incoming.getSummary());
+            existing.setImageUrl(incoming.getImageUrl());
+            existing.setCategory(incoming.getCategory());
+            if (incoming.getPublishedAt() != null) {
+                existing.setPublishedAt(incoming.getPublishedAt());
+            }
+            updated.add(existing);
+            if (recategorizedIds.contains(existing.getId())) {
+                recategorized.add(existing);
+            }
+        }
+
+        if (!recategorized.isEmpty()) {
+            articleStatsService.recordSaved(recategorized);
+        }
+        // 이벤트 수신측(검색 색인 등)이 갱신된 updatedAt/해시를 보도록 즉시 반영
+        articleRepository.flush();
+        return updated;
+    }
+}
@@ -0,0 +1,249 @@
+package com.newscrawler.service;
+
+import com.newscrawler.config.CleanupConfig;
+import com.newscrawler.dto.ArchivedArticle;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL 월별 파티션 관리 (db/postgresql/partition-articles.sql로 전환된 경우에만 동작)
+ * - 앞으로 사용할 파티션을 미리 생성
+ * - 보관 기간이 완전히 지난 파티션은 DETACH ... CONCURRENTLY 후 DROP (행 단위 삭제 없이 정리, PostgreSQL 14 이상)
+ * H2나 파티션 전환 전 테이블에서는 아무 작업도 하지 않으며, 기존 행 삭제 방식을 그대로 사용
+ * 파티션 여부는 PARTITION_CHECK_INTERVAL마다 다시 확인하므로 실행 중 전환해도 재시작 없이 반영됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticlePartitionService {
+
+    private static final String PARTITION_PREFIX = "articles_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile("^articles_p(\\d{4})(\\d{2})$");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int ARCHIVE_BATCH_SIZE = 500;
+    private static final Duration PARTITION_CHECK_INTERVAL = Duration.ofMinutes(10);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CleanupConfig cleanupConfig;
+    private final ArticleArchiveService articleArchiveService;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleStatsService articleStatsService;
+
+    @Value("${spring.sql.init.platform:h2}")
+    private String databasePlatform;
+
+    private volatile Boolean partitioned;
+    private volatile long partitionCheckedAtNanos;
+
+    /**
+     * articles 테이블이 파티션 테이블인지 확인 (PARTITION_CHECK_INTERVAL 동안 캐시)
+     */
+    public boolean isPartitioned() {
+        Boolean cached = partitioned;
+        if (cached != null && System.nanoTime() - partitionCheckedAtNanos < PARTITION_CHECK_INTERVAL.toNanos()) {
+            return cached;
+        }
+
+        boolean current = "postgresql".equalsIgnoreCase(databasePlatform) && Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(
+                        "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt " +
+                        "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = 'articles')",
+                        Boolean.class));
+        if (!Boolean.valueOf(current).equals(cached)) {
+            log.info("articles 테이블 파티션 여부: {}", current);
+        }
+        partitioned = current;
+        partitionCheckedAtNanos = System.nanoTime();
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintainPartitions();
+    }
+
+    /**
+     * 매일 새벽 1시 30분에 다음 달 이후 파티션 미리 생성
+     */
+    @Scheduled(cron = "0 30 1 * * ?", zone = "Asia/Seoul")
+    public void maintainPartitions() {
+        try {
+            if (!isPartitioned()) {
+                return;
+            }
+
+            YearMonth current = YearMonth.now();
+            for (int i = 0; i <= cleanupConfig.getPartitionMonthsAhead(); i++) {
+                createPartition(current.plusMonths(i));
+            }
+        } catch (Exception e) {
+            log.error("파티션 유지보수 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지정한 기간의 월별 파티션 생성 (과거 데이터를 대량 적재하기 전)
+     */
+    public void createPartitionsBetween(YearMonth from, YearMonth to) {
+        if (!isPartitioned()) {
+            return;
+        }
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            createPartition(month);
+        }
+    }
+
+    /**
+     * 기준 시각 이전 데이터만 담고 있는 파티션 삭제 (오래된 파티션부터)
+     * 기준 시각이 걸쳐 있는 파티션은 남겨 두고 호출 측에서 행 단위로 정리
+     * 보관이 켜져 있으면 파티션 전체를 보관 파일로 옮긴 뒤 삭제하며, 보관에 실패하면 그 파티션부터는 삭제하지 않음
+     * DETACH CONCURRENTLY는 트랜잭션 밖에서만 실행되므로 트랜잭션 없이 호출해야 함
+     * 이전 실행에서 DETACH가 중단된 파티션은 FINALIZE로 마무리
+     *
+     * @return 삭제된 행 수 (삭제 전 count(*) 또는 보관한 행 수)
+     */
+    public long dropPartitionsBefore(LocalDateTime cutoffDate) {
+        long droppedRows = 0;
+        LocalDate droppedUntil = null;
+
+        for (ExpiredPartition expired : findExpiredPartitions(cutoffDate)) {
+            String partition = expired.name();
+            long rows;
+            try {
+                rows = articleArchiveService.isEnabled()
+                        ? archivePartition(partition)
+                        : countRows(partition);
+            } catch (Exception e) {
+                log.error("파티션 보관 실패로 삭제를 중단합니다: {} - {}", partition, e.getMessage());
+                break;
+            }
+
+            try {
+                jdbcTemplate.execute("ALTER TABLE articles DETACH PARTITION " + partition
+                        + (expired.detachPending() ? " FINALIZE" : " CONCURRENTLY"));
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            } catch (Exception e) {
+                log.error("파티션 분리/삭제 실패: {} - {}", partition, e.getMessage());
+                break;
+            }
+
+            droppedRows += rows;
+            droppedUntil = expired.upperBound();
+            log.info("만료 파티션 삭제: {} ({}개 기사)", partition, rows);
+        }
+
+        if (droppedUntil != null) {
+            articleStatsService.removeDaysBefore(droppedUntil);
+        }
+        return droppedRows;
+    }
+
+    private long countRows(String partition) {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + partition, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 파티션의 모든 행을 커서로 읽어 일정 크기씩 보관 파일에 기록하고 보관한 행 수 반환
+     * PostgreSQL은 트랜잭션 안에서만 fetch size 단위로 스트리밍하므로 트랜잭션으로 감쌈
+     */
+    private long archivePartition(String partition) {
+        long[] archived = new long[1];
+        transactionTemplate.executeWithoutResult(status -> {
+            List<ArchivedArticle> batch = new ArrayList<>(ARCHIVE_BATCH_SIZE);
+
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(
+                        "SELECT a.id, a.title, a.summary, a.image_url, s.name AS source, c.name AS category, " +
+                        "a.link, a.published_at, a.created_at, a.updated_at FROM " + partition + " a " +
+                        "JOIN sources s ON s.id = a.source_id JOIN categories c ON c.id = a.category_id");
+                ps.setFetchSize(ARCHIVE_BATCH_SIZE);
+                return ps;
+            }, rs -> {
+                batch.add(ArchivedArticle.builder()
+                        .id(rs.getLong("id"))
+                        .title(rs.getString("title"))
+                        .summary(rs.getString("summary"))
+                        .imageUrl(rs.getString("image_url"))
+                        .source(rs.getString("source"))
+                        .category(rs.getString("category"))
+                        .link(rs.getString("link"))
+                        .publishedAt(toLocalDateTime(rs.getTimestamp("published_at")))
+                        .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                        .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                        .build());
+                if (batch.size() == ARCHIVE_BATCH_SIZE) {
+                    articleArchiveService.archive(batch);
+                    archived[0] += batch.size();
+                    batch.clear();
+                }
+            });
+
+            articleArchiveService.archive(batch);
+            archived[0] += batch.size();
+        });
+        return archived[0];
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    /**
+     * 만료된 파티션 (이름, 상한 날짜, 이전 DETACH CONCURRENTLY가 중단된 상태인지)
+     */
+    private record ExpiredPartition(String name, LocalDate upperBound, boolean detachPending) {
+    }
+
+    /**
+     * 만료된 파티션 목록 (이름순 = 날짜순)
+     */
+    private List<ExpiredPartition> findExpiredPartitions(LocalDateTime cutoffDate) {
+        List<ExpiredPartition> expired = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT c.relname, i.inhdetachpending FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = 'articles' ORDER BY c.relname",
+                rs -> {
+                    Matcher matcher = PARTITION_NAME.matcher(rs.getString("relname"));
+                    if (!matcher.matches()) {
+                        return;
+                    }
+
+                    YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+                    LocalDate upperBound = month.plusMonths(1).atDay(1);
+                    if (!upperBound.atStartOfDay().isAfter(cutoffDate)) {
+                        expired.add(new ExpiredPartition(
+                                rs.getString("relname"), upperBound, rs.getBoolean("inhdetachpending")));
+                    }
+                });
+        return expired;
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF articles FOR VALUES FROM ('%s') TO ('%s')",
+                name, month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+}
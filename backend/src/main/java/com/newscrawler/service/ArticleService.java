@@ -1,21 +1,42 @@
 package com.newscrawler.service;
 
+import com.newscrawler.config.CacheConfig;
+import com.newscrawler.config.CleanupConfig;
+import com.newscrawler.dto.ArchivedArticle;
+import com.newscrawler.dto.ArticleBatchResponse;
+import com.newscrawler.dto.ArticleField;
 import com.newscrawler.dto.ArticleResponseDto;
 import com.newscrawler.dto.ArticlesResponse;
+import com.newscrawler.dto.RelatedArticlesResponse;
 import com.newscrawler.entity.Article;
 import com.newscrawler.repository.ArticleRepository;
+import com.newscrawler.search.ArticleSearchIndex;
+import com.newscrawler.search.KoreanNgramTokenizer;
+import com.newscrawler.search.RelatedArticleIndex;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,38 +45,41 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ArticleService {
 
+    private static final int BATCH_LOOKUP_CHUNK_SIZE = 500;
+    private static final int MAX_ARCHIVE_MERGE_WINDOW = 10000;
+
+    // 기간 조회 정렬 순서 (findArticleDtosByDateRange, ArticleArchiveService.NEWEST_FIRST와 동일)
+    private static final Comparator<ArticleResponseDto> NEWEST_FIRST = Comparator
+            .comparing(ArticleResponseDto::getPublishedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(ArticleResponseDto::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
     private final ArticleRepository articleRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final RelatedArticleIndex relatedArticleIndex;
+    private final ArticleArchiveService articleArchiveService;
+    private final CleanupConfig cleanupConfig;
+
+    @Value("${spring.sql.init.platform:h2}")
+    private String databasePlatform;
 
     /**
      * 오늘의 기사 조회 (페이징)
      */
-    public ArticlesResponse getTodaysArticles(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
-        Page<Article> articlePage = articleRepository.findTodaysArticles(pageable);
-        
-        List<ArticleResponseDto> articles = articlePage.getContent()
-                .stream()
-                .map(ArticleResponseDto::from)
-                .collect(Collectors.toList());
+    public ArticlesResponse getTodaysArticles(int page, int size, int summaryMaxChars) {
+        LocalDateTime start = LocalDate.now().atStartOfDay();
+        Page<ArticleResponseDto> articlePage = articleRepository.findArticleDtosCreatedBetween(
+                start, start.plusDays(1), summaryMaxChars, PageRequest.of(page, size));
 
-        return ArticlesResponse.of(
-                articles,
-                LocalDate.now(),
-                articlePage.getNumber() + 1,
-                articlePage.getTotalPages(),
-                (int) articlePage.getTotalElements()
-        );
+        return toArticlesResponse(articlePage);
     }
 
     /**
      * 오늘의 기사 조회 (전체)
      */
-    public ArticlesResponse getTodaysArticles() {
-        List<Article> articles = articleRepository.findTodaysArticles();
-        
-        List<ArticleResponseDto> articleDtos = articles.stream()
-                .map(ArticleResponseDto::from)
-                .collect(Collectors.toList());
+    public ArticlesResponse getTodaysArticles(int summaryMaxChars) {
+        LocalDateTime start = LocalDate.now().atStartOfDay();
+        List<ArticleResponseDto> articleDtos = articleRepository.findArticleDtosCreatedBetween(
+                start, start.plusDays(1), summaryMaxChars);
 
         return ArticlesResponse.of(articleDtos, LocalDate.now());
     }
@@ -63,72 +87,43 @@ public class ArticleService {
     /**
      * 카테고리별 기사 조회
      */
-    public ArticlesResponse getArticlesByCategory(String category, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
-        Page<Article> articlePage = articleRepository.findByCategoryOrderByPublishedAtDesc(category, pageable);
-        
-        List<ArticleResponseDto> articles = articlePage.getContent()
-                .stream()
-                .map(ArticleResponseDto::from)
-                .collect(Collectors.toList());
+    public ArticlesResponse getArticlesByCategory(String category, int page, int size, int summaryMaxChars) {
+        Page<ArticleResponseDto> articlePage = articleRepository.findArticleDtosByCategory(
+                category, summaryMaxChars, PageRequest.of(page, size));
 
-        return ArticlesResponse.of(
-                articles,
-                LocalDate.now(),
-                articlePage.getNumber() + 1,
-                articlePage.getTotalPages(),
-                (int) articlePage.getTotalElements()
-        );
+        return toArticlesResponse(articlePage);
     }
 
     /**
      * 출처별 기사 조회
      */
-    public ArticlesResponse getArticlesBySource(String source, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
-        Page<Article> articlePage = articleRepository.findBySourceOrderByPublishedAtDesc(source, pageable);
-        
-        List<ArticleResponseDto> articles = articlePage.getContent()
-                .stream()
-                .map(ArticleResponseDto::from)
-                .collect(Collectors.toList());
+    public ArticlesResponse getArticlesBySource(String source, int page, int size, int summaryMaxChars) {
+        Page<ArticleResponseDto> articlePage = articleRepository.findArticleDtosBySource(
+                source, summaryMaxChars, PageRequest.of(page, size));
 
-        return ArticlesResponse.of(
-                articles,
-                LocalDate.now(),
-                articlePage.getNumber() + 1,
-                articlePage.getTotalPages(),
-                (int) articlePage.getTotalElements()
-        );
+        return toArticlesResponse(articlePage);
     }
 
     /**
      * 카테고리와 출처로 필터링
      */
-    public ArticlesResponse getArticlesByCategoryAndSource(String category, String source, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
-        Page<Article> articlePage = articleRepository.findByCategoryAndSourceOrderByPublishedAtDesc(category, source, pageable);
-        
-        List<ArticleResponseDto> articles = articlePage.getContent()
-                .stream()
-                .map(ArticleResponseDto::from)
-                .collect(Collectors.toList());
+    public ArticlesResponse getArticlesByCategoryAndSource(String category, String source, int page, int size,
+                                                           int summaryMaxChars) {
+        Page<ArticleResponseDto> articlePage = articleRepository.findArticleDtosByCategoryAndSource(
+                category, source, summaryMaxChars, PageRequest.of(page, size));
 
-        return ArticlesResponse.of(
-                articles,
-                LocalDate.now(),
-                articlePage.getNumber() + 1,
-                articlePage.getTotalPages(),
-                (int) articlePage.getTotalElements()
-        );
+        return toArticlesResponse(articlePage);
     }
 
     /**
      * 키워드 검색
      */
     public ArticlesResponse searchArticles(String keyword, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
-        Page<Article> articlePage = articleRepository.searchByKeyword(keyword, pageable);
+        if (articleSearchIndex.isReady() && isTokenizable(keyword)) {
+            return searchFromIndex(keyword, page, size);
+        }
+
+        Page<Article> articlePage = searchArticlePage(keyword, page, size);
         
         List<ArticleResponseDto> articles = articlePage.getContent()
                 .stream()
@@ -145,19 +140,155 @@ public class ArticleService {
     }
 
     /**
-     * 기간별 기사 조회
+     * 인메모리 색인으로 검색 후 해당 페이지의 기사만 DTO로 조회 (색인 순서 유지)
      */
-    public ArticlesResponse getArticlesByDateRange(LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
-        Page<Article> articlePage = articleRepository.findByDateRange(startDate, endDate, pageable);
-        
-        List<ArticleResponseDto> articles = articlePage.getContent()
+    private ArticlesResponse searchFromIndex(String keyword, int page, int size) {
+        int pageSize = Math.max(size, 1);
+        ArticleSearchIndex.SearchHits hits = articleSearchIndex.search(keyword, page, pageSize);
+
+        Map<Long, ArticleResponseDto> articlesById = articleRepository
+                .findArticleDtosByIdIn(hits.articleIds())
                 .stream()
-                .map(ArticleResponseDto::from)
+                .collect(Collectors.toMap(ArticleResponseDto::getId, Function.identity()));
+
+        List<ArticleResponseDto> articles = hits.articleIds().stream()
+                .map(articlesById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
+        int totalPages = (hits.totalCount() + pageSize - 1) / pageSize;
+        return ArticlesResponse.of(articles, LocalDate.now(), page + 1, totalPages, hits.totalCount());
+    }
+
+    private boolean isTokenizable(String keyword) {
+        String stripped = keyword.strip();
+        return stripped.codePointCount(0, stripped.length()) >= 2
+                && !KoreanNgramTokenizer.tokenizeQuery(keyword).isEmpty();
+    }
+
+    /**
+     * 검색 토큰 기반 기사 검색
+     * - PostgreSQL: tsvector GIN 인덱스 + 관련도/최신순 정렬
+     * - H2: 동일한 바이그램 토큰에 대한 LIKE 조건 (로컬 개발용)
+     * - 한 글자 검색어 등 토큰화할 수 없는 경우 기존 LIKE 검색 사용
+     */
+    private Page<Article> searchArticlePage(String keyword, int page, int size) {
+        List<String> tokens = KoreanNgramTokenizer.tokenizeQuery(keyword);
+
+        if (!isTokenizable(keyword)) {
+            Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
+            return articleRepository.searchByKeyword(keyword, pageable);
+        }
+
+        if ("postgresql".equalsIgnoreCase(databasePlatform)) {
+            return articleRepository.fullTextSearch(KoreanNgramTokenizer.toTsQuery(tokens), PageRequest.of(page, size));
+        }
+
+        Specification<Article> spec = (root, query, cb) -> cb.and(tokens.stream()
+                .map(token -> cb.like(root.get("searchTokens"), "% " + token + " %"))
+                .toArray(Predicate[]::new));
+        return articleRepository.findAll(spec, PageRequest.of(page, size, Sort.by("publishedAt").descending()));
+    }
+
+    /**
+     * 기간별 기사 조회 (fields가 null이면 전체 필드)
+     * 기간이 보관 기준 이전까지 걸치면 DB와 보관 파일을 발행 시각 순으로 병합
+     */
+    public ArticlesResponse getArticlesByDateRange(LocalDateTime startDate, LocalDateTime endDate, int page, int size,
+                                                   int summaryMaxChars, Set<ArticleField> fields) {
+        LocalDateTime retentionCutoff = LocalDateTime.now().minusDays(cleanupConfig.getKeepDays());
+        if (articleArchiveService.isEnabled() && startDate.isBefore(retentionCutoff)) {
+            return getArticlesByDateRangeWithArchive(startDate, endDate, page, size, summaryMaxChars, fields);
+        }
+
+        Page<?> articlePage = fields == null
+                ? articleRepository.findArticleDtosByDateRange(startDate, endDate, summaryMaxChars, PageRequest.of(page, size))
+                : articleRepository.findProjected(createdBetween(startDate, endDate), fields, summaryMaxChars,
+                        PageRequest.of(page, size));
+        return toArticlesResponse(articlePage);
+    }
+
+    /**
+     * DB와 보관 파일에서 각각 정렬 순서 상위 (page + 1) × size개만 가져와 병합한 뒤 요청 페이지를 잘라 냄
+     * 보관 파일은 페이지에 들어올 수 있는 날짜만 읽으므로, 비용은 기간 길이가 아니라 페이지 위치에 비례
+     */
+    private ArticlesResponse getArticlesByDateRangeWithArchive(LocalDateTime startDate, LocalDateTime endDate,
+                                                               int page, int size, int maxChars,
+                                                               Set<ArticleField> fields) {
+        long window = (long) (page + 1) * size;
+        if (window > MAX_ARCHIVE_MERGE_WINDOW) {
+            throw new IllegalArgumentException(
+                    "보관 기간이 포함된 조회는 앞쪽 " + MAX_ARCHIVE_MERGE_WINDOW + "개 기사까지만 페이지로 볼 수 있습니다.");
+        }
+
+        Page<ArticleResponseDto> dbWindow = articleRepository.findArticleDtosByDateRange(
+                startDate, endDate, maxChars, PageRequest.of(0, (int) window));
+        ArticleArchiveService.ArchivedPage archived = articleArchiveService.findArchivedTop(
+                startDate, endDate, (int) window);
+
+        List<ArticleResponseDto> fromDb = dbWindow.getContent();
+        List<ArticleResponseDto> fromArchive = archived.top().stream().map(ArchivedArticle::toResponseDto).toList();
+        List<Object> articles = new ArrayList<>(size);
+        int offset = page * size;
+        int i = 0;
+        int j = 0;
+
+        for (int position = 0; position < offset + size && (i < fromDb.size() || j < fromArchive.size()); position++) {
+            ArticleResponseDto next;
+            if (j >= fromArchive.size() || (i < fromDb.size()
+                    && NEWEST_FIRST.compare(fromDb.get(i), fromArchive.get(j)) <= 0)) {
+                next = fromDb.get(i++);
+            } else {
+                next = fromArchive.get(j++);
+                if (maxChars > 0 && next.getSummary() != null && next.getSummary().length() > maxChars) {
+                    next.setSummary(next.getSummary().substring(0, maxChars));
+                }
+            }
+            if (position >= offset) {
+                articles.add(fields == null ? next : ArticleField.project(next, fields));
+            }
+        }
+
+        int totalCount = (int) (dbWindow.getTotalElements() + archived.totalCount());
+        int totalPages = (totalCount + size - 1) / size;
+        return ArticlesResponse.of(articles, LocalDate.now(), page + 1, totalPages, totalCount);
+    }
+
+    /**
+     * 선택한 필드만 조회 (fields= 파라미터, select 절에 해당 컬럼만 포함)
+     * 카테고리/출처가 모두 없으면 오늘 수집된 기사, size가 0 이하면 페이징 없이 전체
+     */
+    public ArticlesResponse getArticleFields(String category, String source, int page, int size,
+                                             int summaryMaxChars, Set<ArticleField> fields) {
+        Specification<Article> spec;
+        if (category == null && source == null) {
+            LocalDateTime start = LocalDate.now().atStartOfDay();
+            spec = (root, query, cb) -> cb.and(
+                    cb.greaterThanOrEqualTo(root.get("createdAt"), start),
+                    cb.lessThan(root.get("createdAt"), start.plusDays(1)));
+        } else {
+            spec = (root, query, cb) -> cb.and(
+                    category != null ? cb.equal(root.get("category"), category) : cb.conjunction(),
+                    source != null ? cb.equal(root.get("source"), source) : cb.conjunction());
+        }
+
+        Pageable pageable = size > 0 ? PageRequest.of(page, size) : Pageable.unpaged();
+        Page<Map<String, Object>> rows = articleRepository.findProjected(
+                spec, fields, summaryMaxChars, pageable);
+
+        return size > 0 ? toArticlesResponse(rows) : ArticlesResponse.of(rows.getContent(), LocalDate.now());
+    }
+
+    private static Specification<Article> createdBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return (root, query, cb) -> cb.between(root.get("createdAt"), startDate, endDate);
+    }
+
+    /**
+     * DTO 페이지를 목록 응답으로 변환
+     */
+    private ArticlesResponse toArticlesResponse(Page<?> articlePage) {
         return ArticlesResponse.of(
-                articles,
+                articlePage.getContent(),
                 LocalDate.now(),
                 articlePage.getNumber() + 1,
                 articlePage.getTotalPages(),
@@ -165,25 +296,37 @@ public class ArticleService {
         );
     }
 
+    /**
+     * 출처/카테고리 이름순 정렬 (DB에는 사전 id로 저장되어 있어 조회 후 정렬)
+     */
+    private List<String> sortedNames(List<String> names) {
+        List<String> sorted = new ArrayList<>(names);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
     /**
      * 전체 카테고리 목록 조회
      */
+    @Cacheable(CacheConfig.ARTICLE_CATEGORIES)
     public List<String> getAllCategories() {
-        return articleRepository.findDistinctCategories();
+        return sortedNames(articleRepository.findDistinctCategories());
     }
 
     /**
      * 전체 출처 목록 조회
      */
+    @Cacheable(CacheConfig.ARTICLE_SOURCES)
     public List<String> getAllSources() {
-        return articleRepository.findDistinctSources();
+        return sortedNames(articleRepository.findDistinctSources());
     }
 
     /**
      * 출처별 카테고리 목록 조회
      */
+    @Cacheable(CacheConfig.SOURCE_CATEGORIES)
     public List<String> getCategoriesBySource(String source) {
-        return articleRepository.findDistinctCategoriesBySource(source);
+        return sortedNames(articleRepository.findDistinctCategoriesBySource(source));
     }
 
     /**
@@ -196,6 +339,73 @@ public class ArticleService {
         return ArticleResponseDto.from(article);
     }
 
+    /**
+     * ID 목록으로 기사 일괄 조회
+     * IN 절 크기를 제한하기 위해 BATCH_LOOKUP_CHUNK_SIZE개씩 나눠 조회하고, 결과는 요청 순서대로 정렬
+     */
+    public ArticleBatchResponse getArticlesByIds(List<Long> ids, int summaryMaxChars) {
+        List<Long> requested = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        Map<Long, ArticleResponseDto> articlesById = new HashMap<>();
+        for (int from = 0; from < requested.size(); from += BATCH_LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = requested.subList(from, Math.min(from + BATCH_LOOKUP_CHUNK_SIZE, requested.size()));
+            articleRepository.findArticleDtosByIdIn(chunk, summaryMaxChars)
+                    .forEach(article -> articlesById.put(article.getId(), article));
+        }
+
+        List<ArticleResponseDto> articles = new ArrayList<>(articlesById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requested) {
+            ArticleResponseDto article = articlesById.get(id);
+            if (article != null) {
+                articles.add(article);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return ArticleBatchResponse.builder()
+                .requestedCount(requested.size())
+                .foundCount(articles.size())
+                .articles(articles)
+                .missingIds(missingIds)
+                .build();
+    }
+
+    /**
+     * 관련 기사 조회 (MinHash 색인 후보를 한 번의 IN 쿼리로 조회, 유사도 순서 유지)
+     */
+    public RelatedArticlesResponse getRelatedArticles(Long id, int limit, double minSimilarity,
+                                                      boolean includeSameSource, int summaryMaxChars) {
+        if (!articleRepository.existsById(id)) {
+            throw new IllegalArgumentException("기사를 찾을 수 없습니다: " + id);
+        }
+
+        List<RelatedArticleIndex.RelatedHit> hits = relatedArticleIndex.findRelated(
+                id, limit, minSimilarity, includeSameSource);
+        Map<Long, ArticleResponseDto> articlesById = getArticlesByIds(
+                hits.stream().map(RelatedArticleIndex.RelatedHit::articleId).toList(), summaryMaxChars)
+                .getArticles()
+                .stream()
+                .collect(Collectors.toMap(ArticleResponseDto::getId, Function.identity()));
+
+        List<RelatedArticlesResponse.RelatedArticle> related = new ArrayList<>(hits.size());
+        for (RelatedArticleIndex.RelatedHit hit : hits) {
+            ArticleResponseDto article = articlesById.get(hit.articleId());
+            if (article != null) {
+                related.add(new RelatedArticlesResponse.RelatedArticle(article, hit.similarity()));
+            }
+        }
+
+        return RelatedArticlesResponse.builder()
+                .articleId(id)
+                .related(related)
+                .build();
+    }
+
     /**
      * 오늘의 기사 조회 (Article 엔티티 리스트 반환)
      */
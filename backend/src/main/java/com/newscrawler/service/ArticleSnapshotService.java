@@ -0,0 +1,180 @@
+package com.newscrawler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newscrawler.config.SnapshotConfig;
+import com.newscrawler.dto.ArticlesResponse;
+import com.newscrawler.event.ArticleDataVersionChangedEvent;
+import com.newscrawler.event.ArticlesDeletedEvent;
+import com.newscrawler.event.ArticlesSavedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오늘/카테고리별/출처별 목록 앞쪽 페이지를 JSON 바이트(원본 + gzip)로 미리 만들어 메모리에서 응답
+ * - 수집/정리 이벤트 후 잠시 모았다가 전체를 다시 만들고 한 번에 교체
+ * - 만들 때의 데이터 버전과 날짜가 현재와 같을 때만 사용하며, 아니면 컨트롤러가 DB 경로로 처리
+ * - 요청 파라미터(page, size, summaryMaxChars)를 그대로 키로 쓰므로, 미리 만든 조합
+ *   (snapshot.page-size × snapshot.summary-max-chars × 앞쪽 snapshot.pages 페이지)과 정확히 같은 요청만 스냅샷으로 응답
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleSnapshotService {
+
+    private static final String TODAY = "today";
+    private static final String CATEGORY = "category:";
+    private static final String SOURCE = "source:";
+
+    private final SnapshotConfig snapshotConfig;
+    private final ArticleService articleService;
+    private final ArticleDataVersion articleDataVersion;
+    private final ObjectMapper objectMapper;
+
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "article-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    private volatile Snapshots current;
+
+    public record Snapshot(byte[] json, byte[] gzip) {
+    }
+
+    private record Snapshots(long dataVersion, LocalDate date, Map<String, Snapshot> pages) {
+    }
+
+    /**
+     * 요청 파라미터와 정확히 같은 조합으로 만든 최신 스냅샷 (없으면 null)
+     */
+    public Snapshot find(String category, String source, int page, int size, int summaryMaxChars) {
+        Snapshots snapshots = current;
+        if (snapshots == null || (category != null && source != null)
+                || snapshots.dataVersion() != articleDataVersion.getVersion()
+                || !snapshots.date().equals(LocalDate.now())) {
+            return null;
+        }
+        return snapshots.pages().get(key(category, source, page, size, summaryMaxChars));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        requestRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesDeleted(ArticlesDeletedEvent event) {
+        requestRebuild();
+    }
+
+    /**
+     * 다른 인스턴스의 수집/정리로 버전이 바뀌면 이 인스턴스의 스냅샷도 다시 생성
+     */
+    @EventListener
+    public void onDataVersionChanged(ArticleDataVersionChangedEvent event) {
+        requestRebuild();
+    }
+
+    /**
+     * 날짜가 바뀌면 오늘 목록이 비므로 자정 직후 다시 생성
+     */
+    @Scheduled(cron = "5 0 0 * * ?")
+    public void rebuildAtMidnight() {
+        requestRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void requestRebuild() {
+        if (snapshotConfig.isEnabled() && rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.schedule(this::rebuild, snapshotConfig.getRebuildDelayMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void rebuild() {
+        rebuildScheduled.set(false);
+        // 재생성 도중 버전이 바뀌면 이 스냅샷은 사용되지 않고, 그 이벤트가 다시 재생성을 요청함
+        long dataVersion = articleDataVersion.getVersion();
+        LocalDate date = LocalDate.now();
+        long started = System.nanoTime();
+
+        try {
+            Map<String, Snapshot> pages = new HashMap<>();
+            int pageSize = snapshotConfig.getPageSize();
+
+            for (int summaryMaxChars : snapshotConfig.getSummaryMaxChars()) {
+                for (int page = 0; page < snapshotConfig.getPages(); page++) {
+                    pages.put(key(null, null, page, pageSize, summaryMaxChars),
+                            toSnapshot(articleService.getTodaysArticles(page, pageSize, summaryMaxChars)));
+                    for (String category : articleService.getAllCategories()) {
+                        pages.put(key(category, null, page, pageSize, summaryMaxChars),
+                                toSnapshot(articleService.getArticlesByCategory(category, page, pageSize, summaryMaxChars)));
+                    }
+                    for (String source : articleService.getAllSources()) {
+                        pages.put(key(null, source, page, pageSize, summaryMaxChars),
+                                toSnapshot(articleService.getArticlesBySource(source, page, pageSize, summaryMaxChars)));
+                    }
+                }
+            }
+
+            current = new Snapshots(dataVersion, date, Map.copyOf(pages));
+            log.info("목록 스냅샷 재생성 완료 - {}개 페이지, {}ms (버전 {})",
+                    pages.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), dataVersion);
+        } catch (Exception e) {
+            log.error("목록 스냅샷 재생성 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot toSnapshot(ArticlesResponse response) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(response);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(json);
+        }
+
+        return new Snapshot(json, compressed.toByteArray());
+    }
+
+    private static String key(String category, String source, int page, int size, int summaryMaxChars) {
+        String params = "#" + page + "#" + size + "#" + summaryMaxChars;
+        if (category != null) {
+            return CATEGORY + category + params;
+        }
+        if (source != null) {
+            return SOURCE + source + params;
+        }
+        return TODAY + params;
+    }
+}
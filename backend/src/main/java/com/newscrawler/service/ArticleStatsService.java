@@ -0,0 +1,187 @@
+package com.newscrawler.service;
+
+import com.newscrawler.entity.Article;
+import com.newscrawler.repository.ArticleDailyStatRepository;
+import com.newscrawler.repository.ArticleRepository;
+import com.newscrawler.repository.ArticleStatRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 수집일 × 출처 × 카테고리 집계 테이블 관리
+ * 저장/삭제와 같은 트랜잭션에서 호출되어 집계가 기사 테이블과 함께 커밋됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleStatsService {
+
+    // 행이 없으면 만들고 있으면 더하는 원자적 증가 (동시에 같은 키를 처음 저장해도 unique 위반 없음)
+    private static final String POSTGRESQL_UPSERT =
+            "INSERT INTO article_daily_stats (stat_date, source_id, category_id, article_count) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (stat_date, source_id, category_id) " +
+            "DO UPDATE SET article_count = article_daily_stats.article_count + EXCLUDED.article_count";
+    private static final String H2_UPSERT =
+            "MERGE INTO article_daily_stats t USING (VALUES (CAST(? AS DATE), CAST(? AS SMALLINT), " +
+            "CAST(? AS SMALLINT), CAST(? AS BIGINT))) s (stat_date, source_id, category_id, delta) " +
+            "ON t.stat_date = s.stat_date AND t.source_id = s.source_id AND t.category_id = s.category_id " +
+            "WHEN MATCHED THEN UPDATE SET article_count = t.article_count + s.delta " +
+            "WHEN NOT MATCHED THEN INSERT (stat_date, source_id, category_id, article_count) " +
+            "VALUES (s.stat_date, s.source_id, s.category_id, s.delta)";
+
+    private final ArticleDailyStatRepository statRepository;
+    private final ArticleRepository articleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleDictionaryService dictionaryService;
+
+    @Value("${spring.sql.init.platform:h2}")
+    private String databasePlatform;
+
+    private record StatKey(LocalDate statDate, String source, String category) {
+    }
+
+    /**
+     * 집계 테이블이 비어 있으면 기사 테이블에서 한 번에 재구성 (최초 배포 시)
+     * 집계 테이블을 읽어 초기화하는 다른 리스너(ArticleFacetService)보다 먼저 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void initializeRollup() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (statRepository.count() == 0) {
+                    insertRollupFromArticles();
+                }
+            });
+        } catch (Exception e) {
+            log.error("기사 집계 테이블 초기화 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 집계 테이블 전체를 기사 테이블 기준으로 다시 생성 (대량 적재 후)
+     */
+    @Transactional
+    public void rebuildRollup() {
+        statRepository.deleteAllInBatch();
+        insertRollupFromArticles();
+    }
+
+    private void insertRollupFromArticles() {
+        int rows = jdbcTemplate.update(
+                "INSERT INTO article_daily_stats (stat_date, source_id, category_id, article_count) " +
+                "SELECT CAST(created_at AS DATE), source_id, category_id, COUNT(*) FROM articles " +
+                "GROUP BY CAST(created_at AS DATE), source_id, category_id");
+        log.info("기사 집계 테이블 생성 완료: {}개 행", rows);
+    }
+
+    /**
+     * 새로 저장된 기사 반영
+     */
+    @Transactional
+    public void recordSaved(List<Article> articles) {
+        Map<StatKey, Long> deltas = new HashMap<>();
+        for (Article article : articles) {
+            StatKey key = new StatKey(article.getCreatedAt().toLocalDate(), article.getSource(), article.getCategory());
+            deltas.merge(key, 1L, Long::sum);
+        }
+        applyDeltas(deltas);
+    }
+
+    /**
+     * 삭제 직전의 기사 반영 (삭제와 같은 트랜잭션에서 호출)
+     */
+    @Transactional
+    public void recordDeleted(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return;
+        }
+
+        Map<StatKey, Long> deltas = new HashMap<>();
+        for (ArticleStatRow row : articleRepository.findByIdIn(articleIds)) {
+            StatKey key = new StatKey(row.getCreatedAt().toLocalDate(), row.getSource(), row.getCategory());
+            deltas.merge(key, -1L, Long::sum);
+        }
+        applyDeltas(deltas);
+        statRepository.deleteEmpty();
+    }
+
+    /**
+     * 특정 날짜 이전 집계 삭제 (파티션 단위로 기사가 삭제된 경우)
+     */
+    @Transactional
+    public void removeDaysBefore(LocalDate date) {
+        int removed = statRepository.deleteByStatDateBefore(date);
+        log.debug("{} 이전 기사 집계 {}개 행 삭제", date, removed);
+    }
+
+    @Transactional(readOnly = true)
+    public long getTotalCount() {
+        return statRepository.sumArticleCount();
+    }
+
+    @Transactional(readOnly = true)
+    public long getCountOn(LocalDate date) {
+        return statRepository.sumArticleCountOn(date);
+    }
+
+    @Transactional(readOnly = true)
+    public long getCountSince(LocalDate fromDate) {
+        return statRepository.sumArticleCountSince(fromDate);
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> getSources() {
+        return statRepository.findDistinctSources().stream()
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 증가분은 한 문장 upsert로 반영하고 (PostgreSQL ON CONFLICT, H2 MERGE),
+     * 감소분은 있는 행만 줄이면 되므로 UPDATE로 반영
+     */
+    private void applyDeltas(Map<StatKey, Long> deltas) {
+        List<Object[]> increments = new ArrayList<>();
+        for (Map.Entry<StatKey, Long> entry : deltas.entrySet()) {
+            StatKey key = entry.getKey();
+            long delta = entry.getValue();
+
+            if (delta < 0) {
+                statRepository.addToCount(key.statDate(), key.source(), key.category(), delta);
+            } else if (delta > 0) {
+                increments.add(new Object[]{
+                        Date.valueOf(key.statDate()),
+                        dictionaryService.idOf(ArticleDictionaryService.Kind.SOURCE, key.source()),
+                        dictionaryService.idOf(ArticleDictionaryService.Kind.CATEGORY, key.category()),
+                        delta
+                });
+            }
+        }
+
+        if (!increments.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "postgresql".equalsIgnoreCase(databasePlatform) ? POSTGRESQL_UPSERT : H2_UPSERT, increments);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.newscrawler.service;
+
+import com.newscrawler.config.StreamConfig;
+import com.newscrawler.dto.ArticleResponseDto;
+import com.newscrawler.entity.Article;
+import com.newscrawler.event.ArticlesSavedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새로 저장된 기사를 SSE로 전달
+ * - 연결은 서블릿 비동기 요청(SseEmitter)으로 유지되므로 유휴 연결이 스레드를 점유하지 않음
+ * - 발행/재전송은 전용 스레드 하나에서 순서대로 구독자별 대기열에 넣기만 하고, 실제 전송은 전송 스레드 풀이 나눠 처리
+ * - 대기열이 넘치거나 전송이 sendTimeoutMs를 넘기는 느린 구독자는 연결을 끊어 다른 구독자를 막지 않음
+ * - 최근 이벤트는 고정 크기 링 버퍼에 보관해 Last-Event-ID 이후 이벤트부터 재전송
+ * 이벤트 ID는 기동 시각(ms)부터 증가하므로 재시작 전 ID로 재연결해도 버퍼의 이벤트를 모두 받음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleStreamBroadcaster {
+
+    private static final String EVENT_NAME = "article";
+    private static final int MAX_SENDS_PER_DRAIN = 32; // 한 구독자가 전송 스레드를 오래 붙잡지 않도록 나눠 처리
+    private static final StreamEvent HEARTBEAT = new StreamEvent(-1L, null);
+
+    private final StreamConfig streamConfig;
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "article-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ExecutorService senders;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // 아래 필드는 dispatcher 스레드에서만 접근
+    private StreamEvent[] ring;
+    private int ringStart;
+    private int ringSize;
+    private long nextEventId = System.currentTimeMillis();
+
+    private record StreamEvent(long id, ArticleResponseDto article) {
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final String category;
+        private final String source;
+        private final BlockingQueue<StreamEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean ready; // Last-Event-ID 재전송을 대기열에 넣기 전에는 새 이벤트를 받지 않음
+        private volatile boolean closed;
+        private volatile long sendStartedNanos; // 전송 중이 아니면 0
+
+        Subscriber(SseEmitter emitter, String category, String source, int queueCapacity, boolean ready) {
+            this.emitter = emitter;
+            this.category = category;
+            this.source = source;
+            this.queue = new LinkedBlockingQueue<>(queueCapacity);
+            this.ready = ready;
+        }
+
+        boolean accepts(ArticleResponseDto article) {
+            return (category == null || category.equals(article.getCategory()))
+                    && (source == null || source.equals(article.getSource()));
+        }
+    }
+
+    @PostConstruct
+    public void initialize() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(Math.max(streamConfig.getSenderThreads(), 1), runnable -> {
+            Thread thread = new Thread(runnable, "article-stream-send-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 구독 등록 (lastEventId가 있으면 버퍼에서 그 이후 이벤트를 먼저 전송)
+     * 한도 검사와 등록을 호출 스레드에서 바로 처리해 동시에 몰린 연결도 한도를 넘지 않음
+     */
+    public SseEmitter subscribe(String category, String source, Long lastEventId) {
+        if (subscriberCount.incrementAndGet() > streamConfig.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("동시 구독 수 한도를 초과했습니다: " + streamConfig.getMaxSubscribers());
+        }
+
+        SseEmitter emitter = new SseEmitter(streamConfig.getTimeoutMs());
+        int queueCapacity = streamConfig.getSubscriberQueueSize() + (lastEventId != null ? streamConfig.getBufferSize() : 0);
+        Subscriber subscriber = new Subscriber(emitter, category, source, queueCapacity, lastEventId == null);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(error -> unregister(subscriber));
+
+        if (lastEventId != null) {
+            dispatcher.execute(() -> {
+                for (StreamEvent event : eventsAfter(lastEventId)) {
+                    if (subscriber.accepts(event.article()) && !enqueue(subscriber, event)) {
+                        return;
+                    }
+                }
+                subscriber.ready = true;
+            });
+        }
+
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 커밋된 신규 기사만 전달 (내용 갱신으로 다시 저장된 기사는 제외)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        List<ArticleResponseDto> inserted = event.inserted().stream()
+                .map(ArticleResponseDto::from)
+                .toList();
+        if (inserted.isEmpty()) {
+            return;
+        }
+
+        dispatcher.execute(() -> {
+            for (ArticleResponseDto article : inserted) {
+                StreamEvent streamEvent = append(article);
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.ready && subscriber.accepts(article)) {
+                        enqueue(subscriber, streamEvent);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 하트비트 전송 겸 느린 구독자 정리 (전송이 sendTimeoutMs를 넘긴 연결은 끊음)
+     */
+    @Scheduled(fixedDelayString = "${stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(streamConfig.getSendTimeoutMs());
+        long now = System.nanoTime();
+
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedNanos;
+            if (started != 0 && now - started > timeoutNanos) {
+                log.debug("전송이 {}ms 넘게 끝나지 않은 스트림 구독자 연결 종료", streamConfig.getSendTimeoutMs());
+                drop(subscriber);
+            } else if (subscriber.ready) {
+                enqueue(subscriber, HEARTBEAT);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        subscriberCount.set(0);
+    }
+
+    /**
+     * 구독자 대기열에 넣고 전송 예약 (대기열이 가득 차면 느린 구독자로 보고 연결 종료)
+     */
+    private boolean enqueue(Subscriber subscriber, StreamEvent event) {
+        if (subscriber.closed) {
+            return false;
+        }
+        if (!subscriber.queue.offer(event)) {
+            log.debug("전송 대기열이 가득 찬 스트림 구독자 연결 종료");
+            drop(subscriber);
+            return false;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+        return true;
+    }
+
+    /**
+     * 대기열의 이벤트를 순서대로 전송 (구독자당 동시에 하나의 전송 스레드만 처리)
+     */
+    private void drain(Subscriber subscriber) {
+        for (int sent = 0; sent < MAX_SENDS_PER_DRAIN; sent++) {
+            if (subscriber.closed) {
+                subscriber.queue.clear();
+                return;
+            }
+
+            StreamEvent event = subscriber.queue.poll();
+            if (event == null) {
+                subscriber.draining.set(false);
+                if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+
+            if (!send(subscriber, event)) {
+                return;
+            }
+        }
+        senders.execute(() -> drain(subscriber));
+    }
+
+    private boolean send(Subscriber subscriber, StreamEvent event) {
+        subscriber.sendStartedNanos = System.nanoTime();
+        try {
+            if (event == HEARTBEAT) {
+                subscriber.emitter.send(SseEmitter.event().comment("ping"));
+            } else {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(event.id()))
+                        .name(EVENT_NAME)
+                        .data(event.article(), MediaType.APPLICATION_JSON));
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber);
+            return false;
+        } finally {
+            subscriber.sendStartedNanos = 0;
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (unregister(subscriber)) {
+            subscriber.emitter.completeWithError(new IOException("SSE 연결 종료"));
+        }
+    }
+
+    private boolean unregister(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+
+    private StreamEvent append(ArticleResponseDto article) {
+        if (ring == null) {
+            ring = new StreamEvent[streamConfig.getBufferSize()];
+        }
+
+        StreamEvent event = new StreamEvent(nextEventId++, article);
+        if (ringSize < ring.length) {
+            ring[(ringStart + ringSize++) % ring.length] = event;
+        } else {
+            ring[ringStart] = event;
+            ringStart = (ringStart + 1) % ring.length;
+        }
+        return event;
+    }
+
+    private List<StreamEvent> eventsAfter(long lastEventId) {
+        List<StreamEvent> events = new ArrayList<>();
+        for (int i = 0; i < ringSize; i++) {
+            StreamEvent event = ring[(ringStart + i) % ring.length];
+            if (event.id() > lastEventId) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
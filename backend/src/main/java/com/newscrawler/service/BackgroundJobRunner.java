@@ -0,0 +1,100 @@
+package com.newscrawler.service;
+
+import com.newscrawler.config.JobExecutorConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 크롤링/영상 생성처럼 수 분씩 걸리는 요청을 전용 스레드 풀에서 실행
+ * - 컨트롤러는 DeferredResult를 바로 반환하므로 작업 중에도 Tomcat 요청 스레드를 점유하지 않음
+ * - 풀과 대기열이 모두 차면 503으로 즉시 거절해 기사 조회 요청과 자원을 다투지 않음
+ * - 응답 제한 시간이 지나면 202로 응답하고 작업은 끝까지 진행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BackgroundJobRunner {
+
+    private final JobExecutorConfig jobExecutorConfig;
+    private final MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void initialize() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                jobExecutorConfig.getPoolSize(), jobExecutorConfig.getPoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(jobExecutorConfig.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "background-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 장시간 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("jobs.queued", executor, pool -> pool.getQueue().size())
+                .description("대기 중인 장시간 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업을 스레드 풀에 넣고 결과를 비동기로 응답
+     */
+    public DeferredResult<ResponseEntity<Map<String, Object>>> run(
+            String jobName, Supplier<ResponseEntity<Map<String, Object>>> job) {
+
+        DeferredResult<ResponseEntity<Map<String, Object>>> result =
+                new DeferredResult<>(jobExecutorConfig.getResponseTimeoutMs());
+        result.onTimeout(() -> result.setResult(ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "success", true,
+                "message", jobName + " 작업이 계속 진행 중입니다. 완료 여부는 로그에서 확인하세요."
+        ))));
+
+        try {
+            executor.execute(() -> {
+                try {
+                    result.setResult(job.get());
+                } catch (Exception e) {
+                    log.error("{} 작업 실패: {}", jobName, e.getMessage());
+                    result.setResult(ResponseEntity.internalServerError().body(Map.of(
+                            "success", false,
+                            "message", jobName + " 중 오류가 발생했습니다: " + e.getMessage()
+                    )));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("{} 요청 거절 - 실행 중: {}, 대기: {}", jobName, executor.getActiveCount(), executor.getQueue().size());
+            result.setResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                    "success", false,
+                    "message", "진행 중인 작업이 많습니다. 잠시 후 다시 시도하세요."
+            )));
+        }
+
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
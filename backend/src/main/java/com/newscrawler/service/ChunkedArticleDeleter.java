@@ -0,0 +1,124 @@
+package com.newscrawler.service;
+
+import com.newscrawler.config.CleanupConfig;
+import com.newscrawler.dto.ArchivedArticle;
+import com.newscrawler.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 기사 대량 삭제를 작은 청크 단위로 나눠 실행
+ * - 청크마다 ID 조회 후 PK 기반 DELETE를 별도 트랜잭션으로 커밋 (집계 테이블 차감도 같은 트랜잭션)
+ * - 엔티티를 메모리에 올리지 않고, 청크 사이에 잠시 쉬어 잠금 보유 시간을 짧게 유지
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChunkedArticleDeleter {
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CleanupConfig cleanupConfig;
+    private final ArticleArchiveService articleArchiveService;
+    private final ArticleStatsService articleStatsService;
+
+    /**
+     * 삭제 결과 (삭제 건수와 삭제된 기사 ID - 인메모리 색인이 재구성 없이 묘비 처리하는 데 사용)
+     * 삭제 건수가 추적 한도를 넘으면 articleIds는 null (소비자는 색인을 다시 만듦)
+     */
+    public record DeletedArticles(long count, long[] articleIds) {
+    }
+
+    /**
+     * 기준 시각 이전에 수집된 기사 삭제
+     * 보관이 켜져 있으면 같은 트랜잭션 안에서 청크를 보관 파일에 먼저 기록한 뒤 삭제
+     */
+    public DeletedArticles deleteCreatedBefore(LocalDateTime cutoffDate) {
+        if (!articleArchiveService.isEnabled()) {
+            return deleteInChunks(pageable -> articleRepository.findIdsCreatedBefore(cutoffDate, pageable));
+        }
+
+        return deleteInChunks(pageable -> {
+            List<ArchivedArticle> articles = articleRepository.findArchiveRowsCreatedBefore(cutoffDate, pageable);
+            articleArchiveService.archive(articles);
+            return articles.stream().map(ArchivedArticle::getId).toList();
+        });
+    }
+
+    /**
+     * 특정 출처 기사 삭제
+     */
+    public DeletedArticles deleteBySource(String source) {
+        return deleteInChunks(pageable -> articleRepository.findIdsBySource(source, pageable));
+    }
+
+    private DeletedArticles deleteInChunks(Function<Pageable, List<Long>> idFinder) {
+        Pageable firstChunk = PageRequest.of(0, Math.max(cleanupConfig.getChunkSize(), 1));
+        long deletedCount = 0;
+        int maxTrackedIds = Math.max(cleanupConfig.getMaxTrackedDeletedIds(), 0);
+        long[] deletedIds = new long[0];
+        int idCount = 0;
+
+        while (true) {
+            List<Long> chunkIds = transactionTemplate.execute(status -> {
+                List<Long> ids = idFinder.apply(firstChunk);
+                if (ids.isEmpty()) {
+                    return ids;
+                }
+                articleStatsService.recordDeleted(ids);
+                articleRepository.deleteByIdIn(ids);
+                return ids;
+            });
+
+            if (chunkIds == null || chunkIds.isEmpty()) {
+                break;
+            }
+            if (deletedIds != null && idCount + chunkIds.size() > maxTrackedIds) {
+                // 대량 정리에서 ID 배열이 삭제 건수만큼 커지지 않도록 추적 중단
+                log.debug("삭제 기사 ID 추적 한도({}개) 초과, ID 없이 결과 반환", maxTrackedIds);
+                deletedIds = null;
+            }
+            if (deletedIds != null) {
+                if (idCount + chunkIds.size() > deletedIds.length) {
+                    deletedIds = Arrays.copyOf(deletedIds,
+                            Math.min(Math.max(deletedIds.length * 2, idCount + chunkIds.size()), maxTrackedIds));
+                }
+                for (Long id : chunkIds) {
+                    deletedIds[idCount++] = id;
+                }
+            }
+            int chunkCount = chunkIds.size();
+            deletedCount += chunkCount;
+            log.debug("기사 청크 삭제: {}개 (누적 {}개)", chunkCount, deletedCount);
+
+            if (!pauseBetweenChunks()) {
+                log.warn("청크 삭제가 중단되었습니다 - 누적 {}개 삭제", deletedCount);
+                break;
+            }
+        }
+
+        return new DeletedArticles(deletedCount, deletedIds == null ? null : Arrays.copyOf(deletedIds, idCount));
+    }
+
+    private boolean pauseBetweenChunks() {
+        if (cleanupConfig.getChunkPauseMs() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(cleanupConfig.getChunkPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -3,13 +3,14 @@ package com.newscrawler.service;
 import com.newscrawler.config.CrawlerConfig;
 import com.newscrawler.crawler.NewsCrawler;
 import com.newscrawler.entity.Article;
-import com.newscrawler.repository.ArticleRepository;
+import com.newscrawler.event.ArticlesDeletedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -22,11 +23,23 @@ import java.util.concurrent.Executors;
 public class CrawlerService {
 
     private final NewsCrawler newsCrawler;
-    private final ArticleRepository articleRepository;
+    private final ArticleIngestService articleIngestService;
+    private final ArticleIngestBuffer articleIngestBuffer;
     private final CrawlerConfig crawlerConfig;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChunkedArticleDeleter chunkedArticleDeleter;
+    private final ArticleStatsService articleStatsService;
     
     private final Executor executor = Executors.newFixedThreadPool(5);
 
+    /**
+     * 크롤링 결과
+     * queued가 true이면 수집 버퍼에 적재만 한 상태로, count는 저장 대기열에 넣은 기사 수 (중복 포함)
+     * false이면 count는 새로 저장된 기사 수
+     */
+    public record CrawlOutcome(boolean queued, int count) {
+    }
+
     /**
      * 매일 오전 7시에 모든 사이트 크롤링 실행
      */
@@ -53,9 +66,9 @@ public class CrawlerService {
 
     /**
      * 수동 크롤링 실행
+     * 수집 버퍼 사용 시 저장을 기다리지 않고 버퍼에 적재한 기사 수를 반환
      */
-    @Transactional
-    public int crawlAllSites() {
+    public CrawlOutcome crawlAllSites() {
         List<CompletableFuture<List<Article>>> futures = new ArrayList<>();
 
         // 다양한 한국 뉴스 사이트 병렬 크롤링
@@ -79,29 +92,29 @@ public class CrawlerService {
             }
         }
 
-        // 중복 제거 및 저장
-        int savedCount = 0;
-        for (Article article : allArticles) {
-            if (!articleRepository.existsByTitleAndSource(article.getTitle(), article.getSource())) {
-                try {
-                    articleRepository.save(article);
-                    savedCount++;
-                } catch (Exception e) {
-                    log.warn("기사 저장 실패 - 제목: {}, 오류: {}", article.getTitle(), e.getMessage());
-                }
-            } else {
-                log.debug("중복 기사 건너뛰기: {}", article.getTitle());
-            }
+        if (articleIngestBuffer.isEnabled()) {
+            articleIngestBuffer.submit(allArticles);
+            log.info("크롤링 완료 - {}개 기사를 수집 버퍼에 적재 (대기 중: {}개)", 
+                    allArticles.size(), articleIngestBuffer.getQueueDepth());
+            return new CrawlOutcome(true, allArticles.size());
         }
 
-        log.info("크롤링 완료 - 총 {}개 기사 중 {}개 새로 저장", allArticles.size(), savedCount);
-        return savedCount;
+        // 출처 + 링크 기준 upsert (변경 없는 기사는 기록하지 않음)
+        ArticleIngestService.IngestResult result = articleIngestService.ingest(allArticles);
+        int savedCount = result.inserted().size();
+
+        log.info("크롤링 완료 - 총 {}개 기사 중 {}개 새로 저장, {}개 갱신, {}개 변경 없음",
+                allArticles.size(), savedCount, result.updated().size(), result.unchangedCount());
+        return new CrawlOutcome(false, savedCount);
+    }
+
+    public boolean isIngestBuffered() {
+        return articleIngestBuffer.isEnabled();
     }
 
     /**
      * 특정 소스만 크롤링
      */
-    @Transactional
     public List<Article> crawlSpecificSource(String source) {
         List<Article> articles = new ArrayList<>();
         
@@ -119,42 +132,46 @@ public class CrawlerService {
             }
         }
 
-        // 중복 체크 후 저장
-        int savedCount = 0;
-        for (Article article : articles) {
-            if (!articleRepository.existsByTitleAndSource(article.getTitle(), article.getSource())) {
-                articleRepository.save(article);
-                savedCount++;
-            }
+        if (articleIngestBuffer.isEnabled()) {
+            articleIngestBuffer.submit(articles);
+            log.info("{} 크롤링 완료 - {}개 기사를 수집 버퍼에 적재", source, articles.size());
+            return articles;
         }
 
-        log.info("{} 크롤링 완료 - 총 {}개 기사 중 {}개 새로 저장", source, articles.size(), savedCount);
+        // 출처 + 링크 기준 upsert
+        ArticleIngestService.IngestResult result = articleIngestService.ingest(articles);
+
+        log.info("{} 크롤링 완료 - 총 {}개 기사 중 {}개 새로 저장, {}개 갱신", 
+                source, articles.size(), result.inserted().size(), result.updated().size());
         return articles;
     }
 
     /**
-     * 크롤링 통계 조회
+     * 크롤링 통계 조회 (집계 테이블만 조회)
      */
     public String getCrawlingStats() {
-        long totalArticles = articleRepository.count();
-        List<Article> todaysArticles = articleRepository.findTodaysArticles();
-        List<String> sources = articleRepository.findDistinctSources();
+        long totalArticles = articleStatsService.getTotalCount();
+        long todaysArticles = articleStatsService.getCountOn(LocalDate.now());
+        List<String> sources = articleStatsService.getSources();
         
         return String.format(
             "전체 기사: %d개, 오늘 수집: %d개, 수집 소스: %d개 (%s)",
-            totalArticles, todaysArticles.size(), sources.size(), String.join(", ", sources)
+            totalArticles, todaysArticles, sources.size(), String.join(", ", sources)
         );
     }
 
     /**
-     * 특정 출처 기사 삭제
+     * 특정 출처 기사 삭제 (청크 단위로 커밋)
      */
-    @Transactional
     public long deleteArticlesBySource(String source) {
         try {
-            long deletedCount = articleRepository.deleteBySource(source);
-            log.info("{} 출처 기사 삭제 완료: {}개", source, deletedCount);
-            return deletedCount;
+            ChunkedArticleDeleter.DeletedArticles deleted = chunkedArticleDeleter.deleteBySource(source);
+            log.info("{} 출처 기사 삭제 완료: {}개", source, deleted.count());
+            if (deleted.count() > 0) {
+                eventPublisher.publishEvent(
+                        new ArticlesDeletedEvent("source:" + source, deleted.count(), deleted.articleIds()));
+            }
+            return deleted.count();
         } catch (Exception e) {
             log.error("{} 출처 기사 삭제 중 오류: {}", source, e.getMessage());
             throw e;
@@ -1,13 +1,14 @@
 package com.newscrawler.service;
 
-import com.newscrawler.repository.ArticleRepository;
+import com.newscrawler.config.CleanupConfig;
+import com.newscrawler.event.ArticlesDeletedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Service
@@ -15,23 +16,26 @@ import java.time.LocalDateTime;
 @Slf4j
 public class DataCleanupService {
 
-    private final ArticleRepository articleRepository;
-    
-    @Value("${cleanup.keep-days:30}")
-    private int keepDays;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChunkedArticleDeleter chunkedArticleDeleter;
+    private final CleanupConfig cleanupConfig;
+    private final ArticlePartitionService articlePartitionService;
+    private final ArticleStatsService articleStatsService;
 
     /**
      * 매일 새벽 2시에 오래된 데이터 정리
-     * 기본값: 30일 이상 된 기사 삭제
+     * 기본값: 30일 이상 된 기사 삭제 (청크 단위로 커밋해 메모리/잠금 사용을 일정하게 유지)
+     * 파티션 테이블이면 만료된 월 파티션을 통째로 삭제하고, 경계 파티션의 나머지만 행 단위로 삭제
      */
     @Scheduled(cron = "0 0 2 * * ?", zone = "Asia/Seoul")
-    @Transactional
     public void cleanupOldArticles() {
+        int keepDays = cleanupConfig.getKeepDays();
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(keepDays);
         
         try {
-            long deletedCount = articleRepository.deleteByCreatedAtBefore(cutoffDate);
-            log.info("데이터 정리 완료: {}개의 {}일 이상 된 기사 삭제", deletedCount, keepDays);
+            ArticlesDeletedEvent deleted = deleteBefore("cleanup", cutoffDate);
+            log.info("데이터 정리 완료: {}개의 {}일 이상 된 기사 삭제", deleted.deletedCount(), keepDays);
+            publishDeleted(deleted);
         } catch (Exception e) {
             log.error("데이터 정리 중 오류 발생: {}", e.getMessage());
         }
@@ -40,14 +44,14 @@ public class DataCleanupService {
     /**
      * 수동 데이터 정리
      */
-    @Transactional
     public long manualCleanup(int days) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(days);
         
         try {
-            long deletedCount = articleRepository.deleteByCreatedAtBefore(cutoffDate);
-            log.info("수동 데이터 정리 완료: {}개의 {}일 이상 된 기사 삭제", deletedCount, days);
-            return deletedCount;
+            ArticlesDeletedEvent deleted = deleteBefore("manual-cleanup", cutoffDate);
+            log.info("수동 데이터 정리 완료: {}개의 {}일 이상 된 기사 삭제", deleted.deletedCount(), days);
+            publishDeleted(deleted);
+            return deleted.deletedCount();
         } catch (Exception e) {
             log.error("수동 데이터 정리 중 오류 발생: {}", e.getMessage());
             return 0;
@@ -55,16 +59,35 @@ public class DataCleanupService {
     }
 
     /**
-     * 데이터베이스 통계 조회
+     * 데이터베이스 통계 조회 (집계 테이블만 조회, 최근 7일은 오늘 포함 7개 수집일)
      */
     public String getStorageStats() {
-        long totalArticles = articleRepository.count();
-        LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-        long recentArticles = articleRepository.countByCreatedAtAfter(weekAgo);
+        long totalArticles = articleStatsService.getTotalCount();
+        long recentArticles = articleStatsService.getCountSince(LocalDate.now().minusDays(6));
         
         return String.format(
             "전체 기사: %d개, 최근 7일: %d개, 보관 기간: %d일",
-            totalArticles, recentArticles, keepDays
+            totalArticles, recentArticles, cleanupConfig.getKeepDays()
         );
     }
+
+    /**
+     * 파티션 삭제가 있었으면 삭제된 기사 ID를 알 수 없으므로 ID 없이 이벤트를 만듦
+     */
+    private ArticlesDeletedEvent deleteBefore(String reason, LocalDateTime cutoffDate) {
+        long droppedCount = articlePartitionService.isPartitioned()
+                ? articlePartitionService.dropPartitionsBefore(cutoffDate)
+                : 0;
+        ChunkedArticleDeleter.DeletedArticles deleted = chunkedArticleDeleter.deleteCreatedBefore(cutoffDate);
+        long deletedCount = droppedCount + deleted.count();
+        return droppedCount > 0
+                ? new ArticlesDeletedEvent(reason, deletedCount)
+                : new ArticlesDeletedEvent(reason, deletedCount, deleted.articleIds());
+    }
+
+    private void publishDeleted(ArticlesDeletedEvent deleted) {
+        if (deleted.deletedCount() > 0) {
+            eventPublisher.publishEvent(deleted);
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package com.newscrawler.service;
+
+import com.newscrawler.config.CacheConfig;
+import com.newscrawler.event.ArticleDataVersionChangedEvent;
+import com.newscrawler.event.ArticlesDeletedEvent;
+import com.newscrawler.event.ArticlesSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 크롤링/정리 작업 후 카테고리·출처 목록 캐시 무효화
+ * 다른 인스턴스의 작업은 공유 데이터 버전 변경으로 알게 되므로 그때도 무효화
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LookupCacheInvalidator {
+
+    private static final List<String> LOOKUP_CACHES = List.of(
+            CacheConfig.ARTICLE_CATEGORIES,
+            CacheConfig.ARTICLE_SOURCES,
+            CacheConfig.SOURCE_CATEGORIES
+    );
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        evictLookupCaches();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesDeleted(ArticlesDeletedEvent event) {
+        evictLookupCaches();
+    }
+
+    /**
+     * 스냅샷 재생성이 새 카테고리/출처 목록을 보도록 같은 이벤트의 다른 수신측보다 먼저 실행
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDataVersionChanged(ArticleDataVersionChangedEvent event) {
+        evictLookupCaches();
+    }
+
+    private void evictLookupCaches() {
+        for (String cacheName : LOOKUP_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.debug("카테고리/출처 목록 캐시 무효화");
+    }
+}
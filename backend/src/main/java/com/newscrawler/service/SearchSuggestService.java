@@ -0,0 +1,219 @@
+package com.newscrawler.service;
+
+import com.newscrawler.config.SuggestConfig;
+import com.newscrawler.dto.ArticleResponseDto;
+import com.newscrawler.entity.Article;
+import com.newscrawler.event.ArticlesSavedEvent;
+import com.newscrawler.repository.ArticleRepository;
+import com.newscrawler.search.KeywordExtractor;
+import com.newscrawler.search.SuggestTrie;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색창 자동완성 (/api/articles/suggest)
+ * - 기사 제목의 단어와 두 단어 구를 용어로 모으고, 출현할 때마다 반감기로 감쇠한 점수를 더함 (빈도 + 최신성)
+ * - 크롤링 저장 후 점수 상위 용어로 불변 트라이를 새로 만들어 참조만 교체하므로 조회는 잠금 없이 접두어 길이만큼만 탐색
+ * - 용어 수는 maxTerms의 두 배까지만 유지하고 트라이에는 상위 maxTerms개만 넣어 메모리는 어휘 수로 제한됨
+ * 삭제된 기사의 용어는 따로 빼지 않고 감쇠로 자연히 밀려나게 둠
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchSuggestService {
+
+    private static final int WARMUP_BATCH_SIZE = 1000;
+
+    private final SuggestConfig suggestConfig;
+    private final KeywordExtractor keywordExtractor;
+    private final ArticleRepository articleRepository;
+
+    private final ScheduledExecutorService rebuildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-suggest");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final Map<String, TermStat> termStats = new HashMap<>();
+
+    private volatile SuggestTrie current = SuggestTrie.empty();
+
+    /**
+     * 용어 점수 (lastSeenHours 시점 기준 값, 조회 시점까지 감쇠해서 사용)
+     */
+    private static final class TermStat {
+        private double score;
+        private double lastSeenHours;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!suggestConfig.isEnabled()) {
+            return;
+        }
+
+        rebuildExecutor.execute(() -> {
+            try {
+                LocalDateTime since = LocalDateTime.now().minusDays(suggestConfig.getWindowDays());
+                long afterId = 0L;
+                int loaded = 0;
+
+                while (true) {
+                    List<ArticleResponseDto> batch = articleRepository.findTruncatedArticleDtosCreatedSince(
+                            since, afterId, 1, PageRequest.of(0, WARMUP_BATCH_SIZE));
+                    if (batch.isEmpty()) {
+                        break;
+                    }
+                    for (ArticleResponseDto article : batch) {
+                        record(article.getTitle(), article.getCreatedAt());
+                    }
+                    loaded += batch.size();
+                    afterId = batch.get(batch.size() - 1).getId();
+                }
+
+                log.info("자동완성 용어 초기화 - 최근 {}일 기사 {}개", suggestConfig.getWindowDays(), loaded);
+            } catch (Exception e) {
+                log.error("자동완성 용어 초기화 중 오류 발생: {}", e.getMessage());
+            }
+            rebuild();
+        });
+    }
+
+    /**
+     * 새로 저장된 기사만 반영 (내용 갱신으로 다시 저장된 기사는 중복 집계하지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        if (!suggestConfig.isEnabled()) {
+            return;
+        }
+
+        boolean changed = false;
+        for (Article article : event.inserted()) {
+            changed |= record(article.getTitle(), article.getCreatedAt());
+        }
+        if (changed) {
+            requestRebuild();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 접두어로 시작하는 용어를 점수순으로 반환 (접두어는 키워드와 같은 규칙으로 정규화)
+     */
+    public List<SuggestTrie.Suggestion> suggest(String prefix, int limit) {
+        String normalized = keywordExtractor.normalizePrefix(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        int resolvedLimit = Math.max(1, Math.min(limit, suggestConfig.getMaxLimit()));
+        return current.lookup(normalized, resolvedLimit);
+    }
+
+    private boolean record(String title, LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return false;
+        }
+
+        var terms = keywordExtractor.extract(title, null);
+        if (terms.isEmpty()) {
+            return false;
+        }
+
+        double hours = toEpochHours(createdAt);
+        synchronized (termStats) {
+            for (String term : terms) {
+                TermStat stat = termStats.computeIfAbsent(term, key -> new TermStat());
+                if (stat.score == 0 || hours >= stat.lastSeenHours) {
+                    stat.score = decay(stat.score, hours - stat.lastSeenHours) + 1.0;
+                    stat.lastSeenHours = hours;
+                } else {
+                    stat.score += decay(1.0, stat.lastSeenHours - hours); // 더 오래된 기사가 늦게 들어온 경우
+                }
+            }
+        }
+        return true;
+    }
+
+    private void requestRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.schedule(this::rebuild, suggestConfig.getRebuildDelayMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 현재 시각 기준으로 감쇠한 점수 상위 용어로 트라이를 새로 만들어 교체
+     * 용어 표가 maxTerms의 두 배를 넘으면 하위 용어를 버림 (새 용어가 들어올 여유는 남김)
+     */
+    private void rebuild() {
+        rebuildScheduled.set(false);
+        long started = System.nanoTime();
+
+        try {
+            double nowHours = toEpochHours(LocalDateTime.now());
+            int maxTerms = suggestConfig.getMaxTerms();
+            List<Map.Entry<String, Double>> ranked = new ArrayList<>();
+
+            synchronized (termStats) {
+                for (Map.Entry<String, TermStat> entry : termStats.entrySet()) {
+                    TermStat stat = entry.getValue();
+                    ranked.add(Map.entry(entry.getKey(), decay(stat.score, nowHours - stat.lastSeenHours)));
+                }
+                ranked.sort(Map.Entry.<String, Double>comparingByValue().reversed());
+
+                if (ranked.size() > maxTerms * 2) {
+                    for (Map.Entry<String, Double> dropped : ranked.subList(maxTerms * 2, ranked.size())) {
+                        termStats.remove(dropped.getKey());
+                    }
+                }
+            }
+
+            List<Map.Entry<String, Double>> selected = new ArrayList<>(ranked.subList(0, Math.min(maxTerms, ranked.size())));
+            selected.sort(Map.Entry.comparingByKey());
+
+            List<String> terms = new ArrayList<>(selected.size());
+            float[] scores = new float[selected.size()];
+            for (int i = 0; i < selected.size(); i++) {
+                terms.add(selected.get(i).getKey());
+                scores[i] = selected.get(i).getValue().floatValue();
+            }
+
+            SuggestTrie trie = SuggestTrie.build(terms, scores, suggestConfig.getMaxLimit());
+            current = trie;
+
+            log.info("자동완성 트라이 재생성 완료 - 용어: {}개, 노드: {}개 ({}ms)",
+                    trie.termCount(), trie.nodeCount(), (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.error("자동완성 트라이 재생성 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private double decay(double score, double elapsedHours) {
+        return score * Math.pow(0.5, elapsedHours / suggestConfig.getHalfLifeHours());
+    }
+
+    private static double toEpochHours(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 3600.0;
+    }
+}
@@ -0,0 +1,55 @@
+package com.newscrawler.service;
+
+import com.newscrawler.entity.Article;
+import com.newscrawler.repository.ArticleRepository;
+import com.newscrawler.search.KoreanNgramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchTokenBackfillService {
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 검색 토큰 컬럼 추가 이전에 저장된 기사의 토큰 채우기
+     * 엔티티 수정(@PreUpdate) 대신 UPDATE 쿼리를 사용해 updatedAt은 변경하지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSearchTokens() {
+        long updatedCount = 0;
+
+        try {
+            while (true) {
+                Integer batchCount = transactionTemplate.execute(status -> {
+                    List<Article> articles = articleRepository.findTop200BySearchTokensIsNullOrderByIdAsc();
+                    for (Article article : articles) {
+                        articleRepository.updateSearchTokens(article.getId(),
+                                KoreanNgramTokenizer.toIndexText(article.getTitle(), article.getSummary()));
+                    }
+                    return articles.size();
+                });
+
+                if (batchCount == null || batchCount == 0) {
+                    break;
+                }
+                updatedCount += batchCount;
+            }
+        } catch (Exception e) {
+            log.error("검색 토큰 백필 중 오류 발생: {}", e.getMessage());
+        }
+
+        if (updatedCount > 0) {
+            log.info("검색 토큰 백필 완료: {}개 기사", updatedCount);
+        }
+    }
+}
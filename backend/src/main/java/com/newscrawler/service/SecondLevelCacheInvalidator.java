@@ -0,0 +1,51 @@
+package com.newscrawler.service;
+
+import com.newscrawler.entity.Article;
+import com.newscrawler.event.ArticleDataVersionChangedEvent;
+import com.newscrawler.event.ArticlesDeletedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 무효화
+ * JPA로 저장/수정/삭제한 기사는 Hibernate가 직접 갱신하지만,
+ * 파티션 DROP처럼 JDBC로 지운 기사는 알 수 없으므로 삭제 이벤트마다 기사 영역과 쿼리 캐시를 비움
+ * 다른 인스턴스의 수집/정리도 이 인스턴스의 Hibernate는 알 수 없으므로 공유 데이터 버전이 바뀌면 같이 비움
+ */
+@Component
+@ConditionalOnProperty(prefix = "cache.second-level", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesDeleted(ArticlesDeletedEvent event) {
+        evict(event.reason());
+    }
+
+    /**
+     * 같은 이벤트로 시작하는 스냅샷 재생성이 비운 캐시를 통해 읽도록 먼저 실행
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDataVersionChanged(ArticleDataVersionChangedEvent event) {
+        evict("다른 인스턴스 변경 (버전 " + event.version() + ")");
+    }
+
+    private void evict(String reason) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictEntityData(Article.class);
+        sessionFactory.getCache().evictQueryRegions();
+        log.debug("기사 2차 캐시 무효화 - {}", reason);
+    }
+}
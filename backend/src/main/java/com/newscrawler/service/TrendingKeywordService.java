@@ -0,0 +1,205 @@
+package com.newscrawler.service;
+
+import com.newscrawler.config.TrendingConfig;
+import com.newscrawler.dto.ArticleResponseDto;
+import com.newscrawler.entity.Article;
+import com.newscrawler.event.ArticlesSavedEvent;
+import com.newscrawler.repository.ArticleRepository;
+import com.newscrawler.search.KeywordExtractor;
+import com.newscrawler.search.SpaceSavingCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 최근 1시간/24시간/7일 화제어 집계
+ * - 발행 시각(없으면 수집 시각) 기준 1시간 단위 구간마다 Space-Saving 요약을 두고, 신규 기사 저장 시 키워드를 증분 반영
+ *   (하루 한 번 몰아서 수집해도 기사가 수집 시각 한 구간에 몰리지 않음, 미래 발행 시각은 현재 구간으로 처리)
+ * - 조회 시에는 창에 걸친 구간 요약만 합치므로 기사를 다시 읽지 않음
+ * - 구간 수(7일 + 1시간)와 구간별 카운터 수가 고정이라 메모리는 수집량과 무관하게 제한됨
+ * 시작 시 최근 7일 동안 수집된 기사로 한 번 채움 (삭제된 기사는 반영하지 않음, 보관 기간이 7일보다 길어 영향 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingKeywordService {
+
+    private static final int BUCKET_COUNT = 7 * 24 + 1;
+    private static final int WARMUP_BATCH_SIZE = 1000;
+
+    private final TrendingConfig trendingConfig;
+    private final KeywordExtractor keywordExtractor;
+    private final ArticleRepository articleRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SpaceSavingCounter[] buckets = new SpaceSavingCounter[BUCKET_COUNT];
+    private final long[] bucketHours = new long[BUCKET_COUNT];
+
+    public enum Window {
+        HOUR("1h", 1),
+        DAY("24h", 24),
+        WEEK("7d", 7 * 24);
+
+        private final String label;
+        private final int hours;
+
+        Window(String label, int hours) {
+            this.label = label;
+            this.hours = hours;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public static Window fromLabel(String label) {
+            for (Window window : values()) {
+                if (window.label.equalsIgnoreCase(label)) {
+                    return window;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 기간입니다: " + label + " (1h, 24h, 7d)");
+        }
+    }
+
+    /**
+     * 화제어와 추정 빈도 (실제 빈도는 count - error 이상)
+     */
+    public record TrendingKeyword(String keyword, long count, long error) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!trendingConfig.isEnabled()) {
+            return;
+        }
+
+        try {
+            LocalDateTime since = LocalDateTime.now().minusDays(7);
+            long afterId = 0L;
+            int loaded = 0;
+
+            while (true) {
+                List<ArticleResponseDto> batch = articleRepository.findArticleDtosCreatedSince(
+                        since, afterId, PageRequest.of(0, WARMUP_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (ArticleResponseDto article : batch) {
+                    record(article.getTitle(), article.getSummary(), article.getPublishedAt(), article.getCreatedAt());
+                }
+                loaded += batch.size();
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+
+            log.info("화제어 집계 초기화 완료 - 최근 7일 기사 {}개", loaded);
+        } catch (Exception e) {
+            log.error("화제어 집계 초기화 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새로 저장된 기사만 반영 (내용 갱신으로 다시 저장된 기사는 중복 집계하지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticlesSavedEvent event) {
+        if (!trendingConfig.isEnabled()) {
+            return;
+        }
+
+        for (Article article : event.inserted()) {
+            record(article.getTitle(), article.getSummary(), article.getPublishedAt(), article.getCreatedAt());
+        }
+    }
+
+    /**
+     * 기간 내 상위 키워드
+     * 창의 시작이 걸친 가장 오래된 1시간 구간은 겹치는 비율만큼만 반영
+     */
+    public List<TrendingKeyword> getTrending(Window window, int limit) {
+        int resolvedLimit = Math.max(1, Math.min(limit, trendingConfig.getMaxLimit()));
+        double nowHours = toEpochSeconds(LocalDateTime.now()) / 3600.0;
+        double windowStart = nowHours - window.hours;
+        long currentHour = (long) Math.floor(nowHours);
+        long oldestHour = (long) Math.floor(windowStart);
+
+        Map<String, double[]> merged = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (long hour = oldestHour; hour <= currentHour; hour++) {
+                int slot = slotOf(hour);
+                if (buckets[slot] == null || bucketHours[slot] != hour) {
+                    continue;
+                }
+                double weight = hour == oldestHour ? (hour + 1) - windowStart : 1.0;
+                buckets[slot].mergeInto(merged, weight);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return merged.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, double[]> entry) -> entry.getValue()[0]).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(resolvedLimit)
+                .map(entry -> new TrendingKeyword(entry.getKey(),
+                        Math.round(entry.getValue()[0]), Math.round(entry.getValue()[1])))
+                .filter(keyword -> keyword.count() > 0)
+                .toList();
+    }
+
+    private void record(String title, String summary, LocalDateTime publishedAt, LocalDateTime createdAt) {
+        LocalDateTime occurredAt = publishedAt != null ? publishedAt : createdAt;
+        if (occurredAt == null) {
+            return;
+        }
+
+        long currentHour = Math.floorDiv(toEpochSeconds(LocalDateTime.now()), 3600L);
+        long hour = Math.min(Math.floorDiv(toEpochSeconds(occurredAt), 3600L), currentHour);
+        if (hour <= currentHour - BUCKET_COUNT) {
+            return;
+        }
+
+        var keywords = keywordExtractor.extract(title, summary);
+        if (keywords.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            int slot = slotOf(hour);
+            if (buckets[slot] == null || bucketHours[slot] != hour) {
+                if (buckets[slot] != null && bucketHours[slot] > hour) {
+                    return; // 더 최근 구간이 이미 자리를 차지한 경우 (7일보다 오래된 기사)
+                }
+                buckets[slot] = new SpaceSavingCounter(trendingConfig.getCountersPerBucket());
+                bucketHours[slot] = hour;
+            }
+            for (String keyword : keywords) {
+                buckets[slot].add(keyword, 1L);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int slotOf(long hour) {
+        return (int) Math.floorMod(hour, (long) BUCKET_COUNT);
+    }
+
+    private static long toEpochSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
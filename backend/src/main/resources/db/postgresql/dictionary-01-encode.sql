@@ -0,0 +1,70 @@
+-- 1단계: articles.source/category 문자열 컬럼을 사전 id 컬럼으로 전환 (되돌릴 수 있는 변경만 수행)
+-- 애플리케이션을 중지한 뒤 실행: psql "$DATABASE_URL" -f dictionary-01-encode.sql
+-- - sources/categories 사전을 만들고 기존 값을 등록한 뒤 source_id/category_id를 채움
+-- - 기존 문자열 컬럼은 삭제하지 않고 NOT NULL만 풀어 둠 (새 버전은 id 컬럼만 기록)
+-- - article_daily_stats는 문자열 키 테이블을 이름만 바꿔 보관하고, 새 버전이 기동 시 id 기준으로 다시 집계
+-- 검증은 dictionary-02-verify.sql, 문자열 컬럼 삭제는 검증 후 dictionary-03-drop-legacy.sql
+-- 되돌리기: 이전 버전 배포 전에 source/category를 사전에서 다시 채우고 NOT NULL 복구
+--   UPDATE articles a SET source = s.name FROM sources s WHERE a.source IS NULL AND s.id = a.source_id;
+--   UPDATE articles a SET category = c.name FROM categories c WHERE a.category IS NULL AND c.id = a.category_id;
+--   ALTER TABLE article_daily_stats RENAME TO article_daily_stats_encoded;
+--   ALTER TABLE article_daily_stats_legacy RENAME TO article_daily_stats;
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS sources (
+    id   SMALLINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE
+);
+CREATE TABLE IF NOT EXISTS categories (
+    id   SMALLINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(50) NOT NULL UNIQUE
+);
+
+INSERT INTO sources (name)
+SELECT DISTINCT source FROM articles WHERE source IS NOT NULL
+ON CONFLICT (name) DO NOTHING;
+INSERT INTO categories (name)
+SELECT DISTINCT category FROM articles WHERE category IS NOT NULL
+ON CONFLICT (name) DO NOTHING;
+
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS source_id SMALLINT;
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS category_id SMALLINT;
+
+UPDATE articles a SET source_id = s.id FROM sources s WHERE a.source_id IS NULL AND s.name = a.source;
+UPDATE articles a SET category_id = c.id FROM categories c WHERE a.category_id IS NULL AND c.name = a.category;
+
+ALTER TABLE articles ALTER COLUMN source_id SET NOT NULL;
+ALTER TABLE articles ALTER COLUMN category_id SET NOT NULL;
+ALTER TABLE articles ADD CONSTRAINT fk_articles_source FOREIGN KEY (source_id) REFERENCES sources (id);
+ALTER TABLE articles ADD CONSTRAINT fk_articles_category FOREIGN KEY (category_id) REFERENCES categories (id);
+
+-- 새 버전은 문자열 컬럼을 기록하지 않음
+ALTER TABLE articles ALTER COLUMN source DROP NOT NULL;
+ALTER TABLE articles ALTER COLUMN category DROP NOT NULL;
+
+-- (source, link) 조회 인덱스를 id 기준으로 새로 만듦 (기존 인덱스는 3단계에서 삭제)
+CREATE INDEX IF NOT EXISTS idx_articles_source_id_link ON articles (source_id, link);
+
+-- 문자열 키(source 컬럼) 집계 테이블일 때만 보관용으로 이름 변경
+-- (schema-postgresql.sql을 먼저 실행해 이미 id 기준 테이블이 있으면 그대로 둠)
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema()
+                 AND table_name = 'article_daily_stats'
+                 AND column_name = 'source') THEN
+        ALTER TABLE article_daily_stats RENAME TO article_daily_stats_legacy;
+        ALTER TABLE article_daily_stats_legacy RENAME CONSTRAINT uk_article_daily_stats TO uk_article_daily_stats_legacy;
+    END IF;
+END $$;
+CREATE TABLE IF NOT EXISTS article_daily_stats (
+    id            BIGSERIAL PRIMARY KEY,
+    stat_date     DATE      NOT NULL,
+    source_id     SMALLINT  NOT NULL,
+    category_id   SMALLINT  NOT NULL,
+    article_count BIGINT    NOT NULL,
+    CONSTRAINT uk_article_daily_stats UNIQUE (stat_date, source_id, category_id)
+);
+
+COMMIT;
@@ -0,0 +1,34 @@
+-- 2단계: 사전 전환 검증 (새 버전을 배포해 한 번 이상 기동한 뒤 실행)
+-- psql "$DATABASE_URL" -f dictionary-02-verify.sql
+-- 모든 결과가 0이어야 dictionary-03-drop-legacy.sql로 진행
+
+-- id가 기존 문자열과 다르게 채워진 기사
+SELECT COUNT(*) AS mismatched_sources
+FROM articles a JOIN sources s ON s.id = a.source_id
+WHERE a.source IS NOT NULL AND a.source <> s.name;
+
+SELECT COUNT(*) AS mismatched_categories
+FROM articles a JOIN categories c ON c.id = a.category_id
+WHERE a.category IS NOT NULL AND a.category <> c.name;
+
+-- 새 집계와 기존 집계의 차이 (기존 집계 이후 저장/삭제된 날짜는 제외)
+-- 1단계에서 보관할 문자열 키 집계가 없었으면 비교를 건너뜀
+DO $$
+DECLARE
+    mismatched BIGINT;
+BEGIN
+    IF to_regclass('article_daily_stats_legacy') IS NULL THEN
+        RAISE NOTICE 'mismatched_rollup_rows: 보관된 기존 집계 없음 (비교 생략)';
+        RETURN;
+    END IF;
+
+    SELECT COUNT(*) INTO mismatched
+    FROM article_daily_stats_legacy l
+    JOIN sources s ON s.name = l.source
+    JOIN categories c ON c.name = l.category
+    LEFT JOIN article_daily_stats n
+           ON n.stat_date = l.stat_date AND n.source_id = s.id AND n.category_id = c.id
+    WHERE l.stat_date < CURRENT_DATE - 1
+      AND COALESCE(n.article_count, 0) <> l.article_count;
+    RAISE NOTICE 'mismatched_rollup_rows: %', mismatched;
+END $$;
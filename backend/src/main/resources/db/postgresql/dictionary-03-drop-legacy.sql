@@ -0,0 +1,13 @@
+-- 3단계: 검증이 끝난 뒤 기존 문자열 컬럼과 집계 테이블 삭제 (되돌릴 수 없음)
+-- dictionary-02-verify.sql 결과가 모두 0인지 확인한 뒤 실행: psql "$DATABASE_URL" -f dictionary-03-drop-legacy.sql
+
+BEGIN;
+
+DROP INDEX IF EXISTS idx_articles_source_link;
+ALTER TABLE articles DROP COLUMN IF EXISTS source;
+ALTER TABLE articles DROP COLUMN IF EXISTS category;
+ALTER INDEX IF EXISTS idx_articles_source_id_link RENAME TO idx_articles_source_link;
+
+DROP TABLE IF EXISTS article_daily_stats_legacy;
+
+COMMIT;
@@ -0,0 +1,65 @@
+-- 1회성 마이그레이션: articles 테이블을 created_at 기준 월별 RANGE 파티션 테이블로 전환
+-- 애플리케이션을 중지한 뒤 실행: psql "$DATABASE_URL" -f partition-articles.sql
+-- 이후 파티션 생성/삭제는 ArticlePartitionService가 담당 (파티션 이름 규칙: articles_pYYYYMM)
+-- 출처/카테고리 사전 전환(dictionary-01 ~ 03)이 끝난 스키마 기준이므로 그 뒤에 실행
+
+BEGIN;
+
+ALTER TABLE articles RENAME TO articles_legacy;
+
+CREATE SEQUENCE IF NOT EXISTS articles_partitioned_id_seq;
+SELECT setval('articles_partitioned_id_seq', COALESCE((SELECT MAX(id) FROM articles_legacy), 0) + 1, false);
+
+-- 파티션 키(created_at)는 기본 키에 포함되어야 함
+CREATE TABLE articles (
+    id            BIGINT       NOT NULL DEFAULT nextval('articles_partitioned_id_seq'),
+    title         VARCHAR(500) NOT NULL,
+    summary       TEXT,
+    image_url     VARCHAR(500),
+    source_id     SMALLINT     NOT NULL REFERENCES sources (id),
+    category_id   SMALLINT     NOT NULL REFERENCES categories (id),
+    link          VARCHAR(500) NOT NULL,
+    published_at  TIMESTAMP(6),
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6),
+    search_tokens TEXT,
+    content_hash  VARCHAR(64),
+    search_vector tsvector GENERATED ALWAYS AS (to_tsvector('simple', COALESCE(search_tokens, ''))) STORED,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE articles_partitioned_id_seq OWNED BY articles.id;
+
+-- 기존 데이터가 있는 달부터 3개월 뒤까지 파티션 생성
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(
+                   date_trunc('month', COALESCE((SELECT MIN(created_at) FROM articles_legacy), now())),
+                   date_trunc('month', now()) + INTERVAL '3 month',
+                   INTERVAL '1 month')::date
+    LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF articles FOR VALUES FROM (%L) TO (%L)',
+                       'articles_p' || to_char(month_start, 'YYYYMM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+
+INSERT INTO articles (id, title, summary, image_url, source_id, category_id, link,
+                      published_at, created_at, updated_at, search_tokens, content_hash)
+SELECT id, title, summary, image_url, source_id, category_id, link,
+       published_at, created_at, updated_at, search_tokens, content_hash
+FROM articles_legacy;
+
+DROP TABLE articles_legacy;
+
+-- 기존 테이블과 함께 삭제된 인덱스를 부모 테이블에 다시 생성 (각 파티션에 자동으로 만들어짐)
+-- 이름이 기존 인덱스와 같으므로 기존 테이블을 삭제한 뒤, 데이터 적재 후 한 번에 생성
+CREATE INDEX idx_articles_search_vector ON articles USING GIN (search_vector);
+CREATE INDEX idx_articles_published_at ON articles (published_at DESC);
+CREATE INDEX idx_articles_source_link ON articles (source_id, link);
+
+COMMIT;
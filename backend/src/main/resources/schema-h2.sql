@@ -0,0 +1,21 @@
+-- H2 전용 보조 스키마 (애플리케이션 시작 시 매번 실행되므로 모든 구문은 멱등이어야 함)
+-- articles, article_daily_stats는 JPA(ddl-auto)가 생성
+
+-- 출처/카테고리 사전
+CREATE TABLE IF NOT EXISTS sources (
+    id   SMALLINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE
+);
+CREATE TABLE IF NOT EXISTS categories (
+    id   SMALLINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(50) NOT NULL UNIQUE
+);
+
+-- 목록 ETag/Last-Modified용 데이터 버전 (인스턴스 간 공유, 단일 행)
+CREATE TABLE IF NOT EXISTS article_data_version (
+    id               SMALLINT PRIMARY KEY,
+    version          BIGINT NOT NULL,
+    last_modified_ms BIGINT NOT NULL
+);
+INSERT INTO article_data_version (id, version, last_modified_ms)
+SELECT * FROM (VALUES (1, 0, 0)) v WHERE NOT EXISTS (SELECT 1 FROM article_data_version WHERE id = 1);
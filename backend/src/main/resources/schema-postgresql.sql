@@ -0,0 +1,44 @@
+-- PostgreSQL 전용 보조 스키마 (운영은 배포 전 수동 적용, 로컬/dev는 시작 시 실행되므로 모든 구문은 멱등 유지)
+
+-- 기사 전문 검색: 애플리케이션이 저장하는 한국어 바이그램 토큰으로 tsvector 생성 후 GIN 인덱스
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS search_tokens TEXT;
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', COALESCE(search_tokens, ''))) STORED;
+CREATE INDEX IF NOT EXISTS idx_articles_search_vector ON articles USING GIN (search_vector);
+CREATE INDEX IF NOT EXISTS idx_articles_published_at ON articles (published_at DESC);
+
+-- 수집 시 변경 감지용 내용 해시
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+-- 수집 시 출처 + 링크로 기존 기사 조회
+-- 사전 전환 중(dictionary-01 ~ 03 사이)에는 같은 이름의 문자열 기준 인덱스가 남아 있어 건너뛰고,
+-- dictionary-03이 그 인덱스를 지우고 idx_articles_source_id_link를 이 이름으로 바꿈
+CREATE INDEX IF NOT EXISTS idx_articles_source_link ON articles (source_id, link);
+
+-- 출처/카테고리 사전 (기존 문자열 컬럼 전환은 db/postgresql/dictionary-*.sql을 순서대로 수동 실행)
+CREATE TABLE IF NOT EXISTS sources (
+    id   SMALLINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE
+);
+CREATE TABLE IF NOT EXISTS categories (
+    id   SMALLINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(50) NOT NULL UNIQUE
+);
+
+-- 수집일 × 출처 × 카테고리 기사 수 집계 (통계 API 전용, 사전 id로 저장)
+CREATE TABLE IF NOT EXISTS article_daily_stats (
+    id            BIGSERIAL PRIMARY KEY,
+    stat_date     DATE      NOT NULL,
+    source_id     SMALLINT  NOT NULL,
+    category_id   SMALLINT  NOT NULL,
+    article_count BIGINT    NOT NULL,
+    CONSTRAINT uk_article_daily_stats UNIQUE (stat_date, source_id, category_id)
+);
+
+-- 목록 ETag/Last-Modified용 데이터 버전 (인스턴스 간 공유, 단일 행)
+CREATE TABLE IF NOT EXISTS article_data_version (
+    id               SMALLINT PRIMARY KEY,
+    version          BIGINT NOT NULL,
+    last_modified_ms BIGINT NOT NULL
+);
+INSERT INTO article_data_version (id, version, last_modified_ms) VALUES (1, 0, 0) ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,28 @@
+package com.newscrawler.bench;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@Profile({"bench", "bench-load"})
+@ConfigurationProperties(prefix = "bench")
+@Data
+public class BenchConfig {
+    
+    private List<Long> scales = List.of(100_000L, 1_000_000L, 10_000_000L); // 측정할 누적 기사 수 (부족한 만큼 추가 적재)
+    private int days = 365; // 합성 기사의 수집 시각 분포 기간
+    private int insertBatchSize = 5000;
+    private int warmupIterations = 5;
+    private int iterations = 50;
+    private long seed = 42L;
+    private long relatedIndexMaxScale = 1_000_000L; // 관련 기사 색인은 이 규모까지만 재구성해 측정 (메모리)
+    private String reportFile = "./bench-report.md";
+    private double defaultMaxP99Ms = 500; // 항목별 한도가 없을 때 p99 한도 (넘으면 테스트 실패)
+    private Map<String, Double> maxP99Ms = new LinkedHashMap<>(); // 항목 이름 접두어별 p99 한도 (가장 긴 접두어 우선)
+}
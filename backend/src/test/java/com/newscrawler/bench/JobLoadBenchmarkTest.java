@@ -0,0 +1,182 @@
+package com.newscrawler.bench;
+
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 장시간 작업(크롤링/영상 생성) 요청이 몰릴 때 기사 조회 지연 시간 측정 (bench-load 태그, 기본 test 작업에서는 제외)
+ * - 측정 전 bench.load.articles개까지 합성 기사 적재 (저장소 벤치마크와 같은 생성기)
+ * - 기준 구간: 조회 요청만 보냄
+ * - 부하 구간: 같은 조회 요청과 함께 장시간 작업 요청을 쉬지 않고 반복
+ * 경로별 부하 구간 p99가 기준 p99 × max-p99-ratio(작으면 min-p99-allowance-ms)를 넘거나
+ * 작업 요청이 연결 오류로 끝나면 실패 (요청 스레드가 작업에 묶였다는 뜻)
+ *
+ * 실행 예: ./gradlew benchLoad
+ */
+@Tag("bench-load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Slf4j
+class JobLoadBenchmarkTest {
+
+    private static final String CONNECTION_ERROR = "연결 오류";
+
+    @Autowired
+    private LoadBenchConfig loadBenchConfig;
+    @Autowired
+    private SyntheticArticleGenerator generator;
+
+    @LocalServerPort
+    private int port;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    /**
+     * 구간별 측정 결과
+     */
+    private record PhaseResult(String name, List<LatencyStats> reads, Map<String, Integer> heavyStatuses) {
+    }
+
+    @Test
+    void readLatencyHoldsUnderHeavyJobs() throws Exception {
+        generator.ensureArticles(loadBenchConfig.getArticles());
+        String baseUrl = "http://localhost:" + port + "/api";
+
+        PhaseResult baseline = runPhase("기준 (조회만)", baseUrl, false);
+        PhaseResult loaded = runPhase("부하 (조회 + 장시간 작업)", baseUrl, true);
+        writeReport(List.of(baseline, loaded));
+
+        SoftAssertions softly = new SoftAssertions();
+        for (LatencyStats loadedStats : loaded.reads()) {
+            baseline.reads().stream()
+                    .filter(stats -> stats.name().equals(loadedStats.name()))
+                    .findFirst()
+                    .ifPresent(baselineStats -> softly.assertThat(loadedStats.p99())
+                            .as("%s 부하 구간 p99 (기준 %.2fms)", loadedStats.name(), baselineStats.p99())
+                            .isLessThanOrEqualTo(Math.max(baselineStats.p99() * loadBenchConfig.getMaxP99Ratio(),
+                                    loadBenchConfig.getMinP99AllowanceMs())));
+        }
+        softly.assertThat(loaded.reads()).as("부하 구간 조회 결과").hasSameSizeAs(baseline.reads());
+        softly.assertThat(loaded.heavyStatuses().keySet())
+                .as("장시간 작업 요청 응답")
+                .noneMatch(key -> key.endsWith(CONNECTION_ERROR));
+        softly.assertAll();
+    }
+
+    private PhaseResult runPhase(String name, String baseUrl, boolean withHeavyJobs) throws InterruptedException {
+        log.info("===== 부하 벤치마크 구간 시작: {} =====", name);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(loadBenchConfig.getDurationSeconds());
+
+        Map<String, List<Long>> readNanos = new ConcurrentHashMap<>();
+        Map<String, Integer> heavyStatuses = new ConcurrentHashMap<>();
+        int heavyClients = withHeavyJobs ? loadBenchConfig.getHeavyClients() : 0;
+        ExecutorService clients = Executors.newFixedThreadPool(loadBenchConfig.getReaders() + heavyClients);
+
+        for (int i = 0; i < heavyClients; i++) {
+            String path = loadBenchConfig.getHeavyPaths().get(i % loadBenchConfig.getHeavyPaths().size());
+            clients.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    heavyStatuses.merge(path + " → " + post(baseUrl + path), 1, Integer::sum);
+                }
+            });
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        for (int i = 0; i < loadBenchConfig.getReaders(); i++) {
+            clients.execute(() -> {
+                List<String> paths = loadBenchConfig.getReadPaths();
+                while (System.nanoTime() < deadline) {
+                    String path = paths.get(Math.floorMod(next.getAndIncrement(), paths.size()));
+                    long started = System.nanoTime();
+                    try {
+                        restTemplate.getForObject(baseUrl + path, String.class);
+                    } catch (Exception e) {
+                        log.warn("조회 요청 실패: {} - {}", path, e.getMessage());
+                        continue;
+                    }
+                    readNanos.computeIfAbsent(path, key -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(System.nanoTime() - started);
+                }
+            });
+        }
+
+        clients.shutdown();
+        // 장시간 작업 응답은 측정 구간이 끝난 뒤에도 늦게 올 수 있으므로 조회 종료만 기다리지 않고 충분히 대기
+        clients.awaitTermination(loadBenchConfig.getDurationSeconds() + 600L, TimeUnit.SECONDS);
+
+        List<LatencyStats> reads = new ArrayList<>();
+        for (String path : loadBenchConfig.getReadPaths()) {
+            List<Long> samples = readNanos.getOrDefault(path, List.of());
+            if (!samples.isEmpty()) {
+                LatencyStats stats = LatencyStats.of("GET " + path,
+                        samples.stream().mapToLong(Long::longValue).toArray());
+                reads.add(stats);
+                log.info(stats.toMarkdownRow());
+            }
+        }
+        heavyStatuses.forEach((key, count) -> log.info("{}: {}회", key, count));
+
+        return new PhaseResult(name, reads, new TreeMap<>(heavyStatuses));
+    }
+
+    private String post(String url) {
+        try {
+            ResponseEntity<String> response = restTemplate.postForEntity(url, null, String.class);
+            return Integer.toString(response.getStatusCode().value());
+        } catch (RestClientResponseException e) {
+            return Integer.toString(e.getStatusCode().value());
+        } catch (ResourceAccessException e) {
+            return CONNECTION_ERROR;
+        }
+    }
+
+    private void writeReport(List<PhaseResult> results) throws IOException {
+        StringBuilder report = new StringBuilder();
+        report.append("# 장시간 작업 부하 중 조회 지연 (").append(LocalDateTime.now().withNano(0)).append(")\n\n")
+                .append("조회 클라이언트 ").append(loadBenchConfig.getReaders()).append("개, 장시간 작업 클라이언트 ")
+                .append(loadBenchConfig.getHeavyClients()).append("개, 구간별 ")
+                .append(loadBenchConfig.getDurationSeconds()).append("초\n\n");
+
+        for (PhaseResult result : results) {
+            report.append("## ").append(result.name()).append("\n\n");
+            report.append("| 항목 | 횟수 | p50 (ms) | p90 (ms) | p99 (ms) | 최대 (ms) | 평균 (ms) |\n");
+            report.append("|---|---|---|---|---|---|---|\n");
+            result.reads().forEach(stats -> report.append(stats.toMarkdownRow()).append('\n'));
+            report.append('\n');
+
+            if (!result.heavyStatuses().isEmpty()) {
+                report.append("| 장시간 작업 요청 → 응답 코드 | 횟수 |\n|---|---|\n");
+                result.heavyStatuses().forEach((key, count) ->
+                        report.append("| ").append(key).append(" | ").append(count).append(" |\n"));
+                report.append('\n');
+            }
+        }
+
+        Files.writeString(Paths.get(loadBenchConfig.getReportFile()), report.toString(), StandardCharsets.UTF_8);
+        log.info("부하 벤치마크 결과 저장: {}", loadBenchConfig.getReportFile());
+    }
+}
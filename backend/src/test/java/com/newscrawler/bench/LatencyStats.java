@@ -0,0 +1,41 @@
+package com.newscrawler.bench;
+
+import java.util.Arrays;
+
+/**
+ * 측정 결과 (밀리초 단위 백분위)
+ */
+public record LatencyStats(String name, int samples, double p50, double p90, double p99, double max, double mean) {
+
+    public static LatencyStats of(String name, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        double sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+
+        return new LatencyStats(name, sorted.length,
+                toMillis(percentile(sorted, 0.50)),
+                toMillis(percentile(sorted, 0.90)),
+                toMillis(percentile(sorted, 0.99)),
+                toMillis(sorted[sorted.length - 1]),
+                sorted.length > 0 ? sum / sorted.length / 1_000_000.0 : 0);
+    }
+
+    /**
+     * nearest-rank 방식 백분위
+     */
+    private static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public String toMarkdownRow() {
+        return String.format("| %s | %d | %.2f | %.2f | %.2f | %.2f | %.2f |", name, samples, p50, p90, p99, max, mean);
+    }
+}
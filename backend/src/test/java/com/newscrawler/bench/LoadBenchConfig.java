@@ -0,0 +1,25 @@
+package com.newscrawler.bench;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+@Configuration
+@Profile("bench-load")
+@ConfigurationProperties(prefix = "bench.load")
+@Data
+public class LoadBenchConfig {
+    
+    private long articles = 100_000L; // 측정 전 적재해 둘 합성 기사 수 (부족한 만큼만 추가)
+    private int readers = 16; // 동시에 조회 요청을 보내는 클라이언트 수
+    private int durationSeconds = 30; // 구간별 측정 시간
+    private int heavyClients = 8; // 장시간 작업 요청을 반복해서 보내는 클라이언트 수
+    private List<String> readPaths = List.of("/articles/today?size=20", "/articles?size=20", "/articles/categories");
+    private List<String> heavyPaths = List.of("/crawler/crawl", "/simple-video/generate-videos/today");
+    private String reportFile = "./bench-load-report.md";
+    private double maxP99Ratio = 3.0; // 부하 구간 p99 / 기준 구간 p99 한도
+    private double minP99AllowanceMs = 50; // 기준 p99가 매우 작을 때 비율 대신 허용하는 p99 (ms)
+}
@@ -0,0 +1,311 @@
+package com.newscrawler.bench;
+
+import com.newscrawler.entity.Article;
+import com.newscrawler.repository.ArticleRepository;
+import com.newscrawler.search.KoreanNgramTokenizer;
+import com.newscrawler.search.RelatedArticleIndex;
+import com.newscrawler.service.DataCleanupService;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * 저장소 메서드, 정리 작업, API 지연 시간 측정 (bench 태그, 기본 test 작업에서는 제외)
+ * - bench.scales의 누적 기사 수마다 부족한 만큼 합성 기사를 적재한 뒤 측정
+ * - 각 항목은 워밍업 후 무작위 파라미터로 반복 호출해 p50/p90/p99/최대/평균(ms) 기록
+ * - 결과는 로그와 bench.report-file(Markdown)에 출력하고, p99가 bench.max-p99-ms 한도를 넘는 항목이 있으면 실패
+ * 쓰기 전용 메서드(updateSearchTokens, updateContentHash, deleteByIdIn)는 정리 작업 측정에 포함
+ * 관련 기사 색인은 bench.related-index-max-scale 이하 규모에서만 재구성 후 측정
+ *
+ * 실행 예: ./gradlew bench (PostgreSQL은 SPRING_PROFILES_ACTIVE=dev,bench ./gradlew bench)
+ */
+@Tag("bench")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Slf4j
+class RepositoryBenchmarkTest {
+
+    private static final int SAMPLE_SIZE = 500;
+    private static final int STREAM_ITERATIONS = 3;
+    private static final String[] KEYWORDS = {"반도체", "금리", "부동산", "인공지능", "손흥민", "환율 하락세", "드라마"};
+
+    @Autowired
+    private BenchConfig benchConfig;
+    @Autowired
+    private SyntheticArticleGenerator generator;
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private DataCleanupService dataCleanupService;
+    @Autowired
+    private RelatedArticleIndex relatedArticleIndex;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.sql.init.platform:h2}")
+    private String databasePlatform;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    /**
+     * 측정 중 사용하는 무작위 파라미터 표본
+     */
+    private record Sample(List<Long> ids, List<Article> articles, List<String> sources, List<String> categories) {
+    }
+
+    @Test
+    void latenciesStayWithinLimits() throws IOException {
+        Map<Long, List<LatencyStats>> results = new LinkedHashMap<>();
+
+        for (long scale : benchConfig.getScales().stream().sorted().toList()) {
+            generator.ensureArticles(scale);
+
+            log.info("===== 벤치마크 시작: 기사 {}개 =====", generator.countArticles());
+            Random random = new Random(benchConfig.getSeed());
+            Sample sample = sample(random);
+
+            List<LatencyStats> stats = new ArrayList<>();
+            stats.addAll(measureRepository(random, sample));
+            if (scale <= benchConfig.getRelatedIndexMaxScale()) {
+                stats.addAll(measureRelatedIndex(random, sample));
+            }
+            stats.addAll(measureApi(random, sample));
+            stats.add(measureCleanup());
+            stats.forEach(result -> log.info(result.toMarkdownRow()));
+            results.put(scale, stats);
+        }
+
+        writeReport(results);
+
+        SoftAssertions softly = new SoftAssertions();
+        results.forEach((scale, stats) -> stats.forEach(result -> softly.assertThat(result.p99())
+                .as("기사 %,d개 - %s p99 (ms)", scale, result.name())
+                .isLessThanOrEqualTo(maxP99Ms(result.name()))));
+        softly.assertAll();
+    }
+
+    /**
+     * 항목 이름과 일치하는 가장 긴 접두어의 한도 (없으면 기본 한도)
+     */
+    private double maxP99Ms(String name) {
+        return benchConfig.getMaxP99Ms().entrySet().stream()
+                .filter(entry -> name.startsWith(entry.getKey()))
+                .max(Map.Entry.comparingByKey(Comparator.comparingInt(String::length)))
+                .map(Map.Entry::getValue)
+                .orElse(benchConfig.getDefaultMaxP99Ms());
+    }
+
+    private List<LatencyStats> measureRepository(Random random, Sample sample) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime todayStart = LocalDate.now().atStartOfDay();
+        LocalDateTime retentionCutoff = now.minusDays(30);
+        List<LatencyStats> stats = new ArrayList<>();
+
+        stats.add(measure("findTodaysArticles()", () -> articleRepository.findTodaysArticles()));
+        stats.add(measure("findArticleDtosCreatedBetween(page)", () -> articleRepository.findArticleDtosCreatedBetween(
+                todayStart, todayStart.plusDays(1), 200, PageRequest.of(random.nextInt(3), 20))));
+        stats.add(measure("findArticleDtosCreatedBetween(list)", () -> articleRepository.findArticleDtosCreatedBetween(
+                todayStart, todayStart.plusDays(1), 200)));
+        stats.add(measure("findArticleDtosByCategory", () -> articleRepository.findArticleDtosByCategory(
+                pick(random, sample.categories()), 0, PageRequest.of(random.nextInt(5), 20))));
+        stats.add(measure("findArticleDtosBySource", () -> articleRepository.findArticleDtosBySource(
+                pick(random, sample.sources()), 0, PageRequest.of(random.nextInt(5), 20))));
+        stats.add(measure("findArticleDtosByCategoryAndSource", () -> articleRepository.findArticleDtosByCategoryAndSource(
+                pick(random, sample.categories()), pick(random, sample.sources()), 0, PageRequest.of(0, 20))));
+        stats.add(measure("findArticleDtosByDateRange(7d)", () -> {
+            LocalDateTime start = now.minusDays(random.nextInt(benchConfig.getDays()));
+            articleRepository.findArticleDtosByDateRange(start, start.plusDays(7), 0, PageRequest.of(0, 20));
+        }));
+        stats.add(measure("searchByKeyword", () -> articleRepository.searchByKeyword(
+                pick(random, List.of(KEYWORDS)), PageRequest.of(0, 20))));
+        if ("postgresql".equalsIgnoreCase(databasePlatform)) {
+            stats.add(measure("fullTextSearch", () -> articleRepository.fullTextSearch(
+                    KoreanNgramTokenizer.toTsQuery(KoreanNgramTokenizer.tokenizeQuery(pick(random, List.of(KEYWORDS)))),
+                    PageRequest.of(0, 20))));
+        }
+        stats.add(measure("findBySourceAndLinkIn(20)", () -> {
+            Article article = pick(random, sample.articles());
+            List<String> links = sample.articles().stream()
+                    .filter(other -> other.getSource().equals(article.getSource()))
+                    .limit(20)
+                    .map(Article::getLink)
+                    .toList();
+            articleRepository.findBySourceAndLinkIn(article.getSource(), links);
+        }));
+        stats.add(measure("findDistinctCategoriesBySource", () -> articleRepository.findDistinctCategoriesBySource(
+                pick(random, sample.sources()))));
+        stats.add(measure("findDistinctSources", () -> articleRepository.findDistinctSources()));
+        stats.add(measure("findDistinctCategories", () -> articleRepository.findDistinctCategories()));
+        stats.add(measure("findIdsCreatedBefore(500)", () -> articleRepository.findIdsCreatedBefore(
+                retentionCutoff, PageRequest.of(0, 500))));
+        stats.add(measure("findArchiveRowsCreatedBefore(500)", () -> articleRepository.findArchiveRowsCreatedBefore(
+                retentionCutoff, PageRequest.of(0, 500))));
+        stats.add(measure("findIdsBySource(500)", () -> articleRepository.findIdsBySource(
+                pick(random, sample.sources()), PageRequest.of(0, 500))));
+        stats.add(measure("findByIdIn(500)", () -> articleRepository.findByIdIn(sample.ids())));
+        stats.add(measure("findAllById(20)", () -> articleRepository.findAllById(sample.ids().subList(0, 20))));
+        stats.add(measure("findIndexDocumentsAfter(1000)", () -> articleRepository.findIndexDocumentsAfter(
+                pick(random, sample.ids()), PageRequest.of(0, 1000))));
+        stats.add(measure("findTop200BySearchTokensIsNullOrderByIdAsc",
+                () -> articleRepository.findTop200BySearchTokensIsNullOrderByIdAsc()));
+        stats.add(measure("streamForExport(1d)", STREAM_ITERATIONS, () -> {
+            LocalDateTime start = now.minusDays(1 + random.nextInt(benchConfig.getDays() - 1));
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                try (var articles = articleRepository.streamForExport(start, start.plusDays(1), null, null)) {
+                    articles.forEach(article -> { });
+                }
+            });
+        }));
+
+        return stats;
+    }
+
+    /**
+     * 관련 기사 MinHash 색인 재구성 시간과 조회 지연 (색인 크기가 규모에 따라 커짐)
+     */
+    private List<LatencyStats> measureRelatedIndex(Random random, Sample sample) {
+        long started = System.nanoTime();
+        relatedArticleIndex.rebuild();
+        long elapsed = System.nanoTime() - started;
+
+        List<LatencyStats> stats = new ArrayList<>();
+        stats.add(LatencyStats.of("RelatedArticleIndex.rebuild(" + relatedArticleIndex.size() + " docs)",
+                new long[]{elapsed}));
+        stats.add(measure("RelatedArticleIndex.findRelated", () -> relatedArticleIndex.findRelated(
+                pick(random, sample.ids()), 10, 0.3, false)));
+        stats.add(measure("RelatedArticleIndex.findRelated(sameSource)", () -> relatedArticleIndex.findRelated(
+                pick(random, sample.ids()), 10, 0.3, true)));
+        return stats;
+    }
+
+    private List<LatencyStats> measureApi(Random random, Sample sample) {
+        String baseUrl = "http://localhost:" + port + "/api";
+        LocalDateTime now = LocalDateTime.now();
+        List<LatencyStats> stats = new ArrayList<>();
+
+        stats.add(measure("GET /articles/today", () -> get(baseUrl + "/articles/today?size=20")));
+        stats.add(measure("GET /articles?category", () -> get(baseUrl + "/articles?category={c}&size=20",
+                pick(random, sample.categories()))));
+        stats.add(measure("GET /articles?source", () -> get(baseUrl + "/articles?source={s}&size=20",
+                pick(random, sample.sources()))));
+        stats.add(measure("GET /articles/range(7d)", () -> {
+            LocalDateTime start = now.minusDays(random.nextInt(benchConfig.getDays())).withNano(0);
+            get(baseUrl + "/articles/range?start={s}&end={e}", start, start.plusDays(7));
+        }));
+        stats.add(measure("GET /articles/search", () -> get(baseUrl + "/articles/search?q={q}",
+                pick(random, List.of(KEYWORDS)))));
+        stats.add(measure("GET /articles/{id}", () -> get(baseUrl + "/articles/{id}", pick(random, sample.ids()))));
+        stats.add(measure("GET /articles/categories", () -> get(baseUrl + "/articles/categories")));
+        stats.add(measure("GET /articles/sources", () -> get(baseUrl + "/articles/sources")));
+        stats.add(measure("GET /crawler/stats", () -> get(baseUrl + "/crawler/stats")));
+
+        return stats;
+    }
+
+    /**
+     * 가장 오래된 하루치 기사 정리 (실제 삭제가 일어나므로 규모마다 한 번만 측정)
+     */
+    private LatencyStats measureCleanup() {
+        long started = System.nanoTime();
+        long deleted = dataCleanupService.manualCleanup(benchConfig.getDays() - 1);
+        long elapsed = System.nanoTime() - started;
+        return LatencyStats.of("cleanup(" + deleted + " rows)", new long[]{elapsed});
+    }
+
+    private LatencyStats measure(String name, Runnable operation) {
+        return measure(name, benchConfig.getIterations(), operation);
+    }
+
+    private LatencyStats measure(String name, int iterations, Runnable operation) {
+        for (int i = 0; i < benchConfig.getWarmupIterations(); i++) {
+            operation.run();
+        }
+
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long started = System.nanoTime();
+            operation.run();
+            nanos[i] = System.nanoTime() - started;
+        }
+        return LatencyStats.of(name, nanos);
+    }
+
+    private void get(String url, Object... variables) {
+        restTemplate.getForObject(url, String.class, variables);
+    }
+
+    private Sample sample(Random random) {
+        long minId = queryLong("SELECT COALESCE(MIN(id), 0) FROM articles");
+        long maxId = queryLong("SELECT COALESCE(MAX(id), 0) FROM articles");
+
+        List<Long> candidateIds = new ArrayList<>(SAMPLE_SIZE);
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            candidateIds.add(minId + (long) (random.nextDouble() * (maxId - minId + 1)));
+        }
+
+        List<Article> articles = articleRepository.findAllById(candidateIds);
+        List<Long> ids = articles.stream().map(Article::getId).collect(Collectors.toCollection(ArrayList::new));
+        while (ids.size() < SAMPLE_SIZE && !ids.isEmpty()) {
+            ids.add(ids.get(random.nextInt(ids.size())));
+        }
+
+        return new Sample(ids, articles,
+                articleRepository.findDistinctSources(), articleRepository.findDistinctCategories());
+    }
+
+    private void writeReport(Map<Long, List<LatencyStats>> results) throws IOException {
+        StringBuilder report = new StringBuilder();
+        report.append("# 저장소 벤치마크 (").append(LocalDateTime.now().withNano(0)).append(", ")
+                .append(databasePlatform).append(")\n\n");
+
+        for (Map.Entry<Long, List<LatencyStats>> entry : results.entrySet()) {
+            report.append("## 기사 ").append(String.format("%,d", entry.getKey())).append("개\n\n");
+            report.append("| 항목 | 횟수 | p50 (ms) | p90 (ms) | p99 (ms) | 최대 (ms) | 평균 (ms) |\n");
+            report.append("|---|---|---|---|---|---|---|\n");
+            entry.getValue().forEach(result -> report.append(result.toMarkdownRow()).append('\n'));
+            report.append('\n');
+        }
+
+        Files.writeString(Paths.get(benchConfig.getReportFile()), report.toString(), StandardCharsets.UTF_8);
+        log.info("벤치마크 결과 저장: {}", benchConfig.getReportFile());
+    }
+
+    private long queryLong(String sql) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class);
+        return value != null ? value : 0L;
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
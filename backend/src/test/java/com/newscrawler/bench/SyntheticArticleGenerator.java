@@ -0,0 +1,232 @@
+package com.newscrawler.bench;
+
+import com.newscrawler.entity.Article;
+import com.newscrawler.search.KoreanNgramTokenizer;
+import com.newscrawler.service.ArticleDictionaryService;
+import com.newscrawler.service.ArticlePartitionService;
+import com.newscrawler.service.ArticleStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 기사 대량 적재 (H2, PostgreSQL 공통, 저장소/부하 벤치마크가 함께 사용)
+ * - 한국어 제목/요약은 단어 조합으로 생성
+ * - 출처/카테고리/주제는 Zipf 분포로 치우치게 선택 (소수의 출처가 대부분의 기사를 차지)
+ * - 수집 시각은 설정한 기간에 고르게, 하루 중에는 출근/점심/저녁 시간대에 몰리도록 분포
+ * JPA를 거치지 않고 JDBC 배치 INSERT로 적재하며, 검색 토큰과 내용 해시는 애플리케이션과 같은 방식으로 계산
+ * 적재 후 집계 테이블은 다시 생성함
+ */
+@Component
+@Profile({"bench", "bench-load"})
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticArticleGenerator {
+
+    private static final String[] SOURCES = {
+            "연합뉴스", "한겨레", "KBS", "SBS", "매일경제", "스포츠서울", "스포츠조선", "조선일보", "중앙일보", "동아일보",
+            "경향신문", "MBC", "JTBC", "YTN", "뉴시스", "뉴스1", "머니투데이", "한국경제", "이데일리", "전자신문"
+    };
+    private static final String[] CATEGORIES = {
+            "종합", "경제", "사회", "정치", "IT", "스포츠", "연예", "국제", "문화", "생활"
+    };
+    private static final String[] SUBJECTS = {
+            "정부", "삼성전자", "서울시", "한국은행", "여야", "현대차", "검찰", "기상청", "교육부", "SK하이닉스",
+            "국토부", "LG전자", "카카오", "네이버", "대법원", "금융위", "KBO", "K리그", "방탄소년단", "손흥민"
+    };
+    private static final String[] TOPICS = {
+            "반도체", "부동산", "금리", "인공지능", "전기차", "프로야구", "드라마", "환율", "수출", "물가",
+            "국회", "날씨", "입시", "배터리", "아이돌", "월드컵", "저출생", "의료", "주식시장", "우주항공"
+    };
+    private static final String[] EVENTS = {
+            "대책 발표", "사상 최대", "논란 확산", "협상 타결", "전망 엇갈려", "긴급 점검", "첫 공개", "잠정 합의",
+            "하락세 지속", "역대 최고", "규제 완화", "투자 확대", "우려 커져", "회복세", "공식 발표"
+    };
+    // 0~23시 수집 가중치 (출근, 점심, 저녁 시간대에 집중)
+    private static final double[] HOURLY_WEIGHTS = {
+            1, 0.5, 0.3, 0.3, 0.5, 1, 3, 6, 7, 5, 4, 4, 6, 4, 3, 3, 3, 4, 6, 6, 5, 4, 3, 2
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleDictionaryService dictionaryService;
+    private final ArticlePartitionService partitionService;
+    private final ArticleStatsService articleStatsService;
+    private final BenchConfig benchConfig;
+
+    @Value("${spring.sql.init.platform:h2}")
+    private String databasePlatform;
+
+    /**
+     * 기사가 target개보다 적으면 부족한 만큼 적재
+     */
+    public void ensureArticles(long target) {
+        long current = countArticles();
+        if (current < target) {
+            log.info("===== 합성 기사 적재: {} → {} =====", current, target);
+            generate(target - current);
+        }
+    }
+
+    public long countArticles() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM articles", Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 합성 기사 count개 추가 적재
+     */
+    public void generate(long count) {
+        LocalDateTime now = LocalDateTime.now();
+        partitionService.createPartitionsBetween(YearMonth.from(now.minusDays(benchConfig.getDays())), YearMonth.from(now));
+
+        short[] sourceIds = new short[SOURCES.length];
+        for (int i = 0; i < SOURCES.length; i++) {
+            sourceIds[i] = dictionaryService.register(ArticleDictionaryService.Kind.SOURCE, SOURCES[i]);
+        }
+        short[] categoryIds = new short[CATEGORIES.length];
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            categoryIds[i] = dictionaryService.register(ArticleDictionaryService.Kind.CATEGORY, CATEGORIES[i]);
+        }
+
+        Random random = new Random(benchConfig.getSeed() ^ count ^ System.nanoTime());
+        ZipfSampler sourceSampler = new ZipfSampler(SOURCES.length, 1.2);
+        ZipfSampler categorySampler = new ZipfSampler(CATEGORIES.length, 1.0);
+        ZipfSampler topicSampler = new ZipfSampler(TOPICS.length, 1.1);
+        double[] hourlyCumulative = cumulative(HOURLY_WEIGHTS);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        long started = System.nanoTime();
+        long inserted = 0;
+        while (inserted < count) {
+            int batchSize = (int) Math.min(benchConfig.getInsertBatchSize(), count - inserted);
+            List<Object[]> rows = new ArrayList<>(batchSize);
+
+            for (int i = 0; i < batchSize; i++) {
+                int source = sourceSampler.sample(random);
+                int category = categorySampler.sample(random);
+                LocalDateTime createdAt = randomCreatedAt(random, now, hourlyCumulative);
+                LocalDateTime publishedAt = createdAt.minusMinutes(random.nextInt(180));
+
+                Article article = Article.builder()
+                        .title(randomTitle(random, topicSampler))
+                        .summary(randomSummary(random, topicSampler))
+                        .imageUrl(random.nextInt(10) < 7
+                                ? "https://img.synthetic.newscrawler.local/" + random.nextInt(1_000_000) + ".jpg"
+                                : null)
+                        .source(SOURCES[source])
+                        .category(CATEGORIES[category])
+                        .link("https://synthetic.newscrawler.local/" + runId + "/" + (inserted + i))
+                        .build();
+
+                rows.add(new Object[]{
+                        article.getTitle(), article.getSummary(), article.getImageUrl(),
+                        sourceIds[source], categoryIds[category], article.getLink(),
+                        Timestamp.valueOf(publishedAt), Timestamp.valueOf(createdAt),
+                        KoreanNgramTokenizer.toIndexText(article.getTitle(), article.getSummary()),
+                        article.computeContentHash()
+                });
+            }
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "INSERT INTO articles (title, summary, image_url, source_id, category_id, link, " +
+                    "published_at, created_at, search_tokens, content_hash) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    rows));
+
+            inserted += batchSize;
+            if (inserted % 100_000 < batchSize || inserted == count) {
+                double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+                log.info("합성 기사 적재 중: {}/{} ({}건/초)", inserted, count, Math.round(inserted / seconds));
+            }
+        }
+
+        // 통계 API가 합성 기사를 반영하도록 집계 재생성
+        articleStatsService.rebuildRollup();
+        if ("postgresql".equalsIgnoreCase(databasePlatform)) {
+            jdbcTemplate.execute("ANALYZE articles");
+        }
+    }
+
+    private String randomTitle(Random random, ZipfSampler topicSampler) {
+        String title = SUBJECTS[random.nextInt(SUBJECTS.length)] + " " + TOPICS[topicSampler.sample(random)] + " "
+                + EVENTS[random.nextInt(EVENTS.length)];
+        return random.nextInt(4) == 0 ? "[속보] " + title : title;
+    }
+
+    private String randomSummary(Random random, ZipfSampler topicSampler) {
+        StringBuilder summary = new StringBuilder();
+        int sentences = 2 + random.nextInt(3);
+        for (int i = 0; i < sentences; i++) {
+            summary.append(SUBJECTS[random.nextInt(SUBJECTS.length)]).append("은(는) ")
+                    .append(TOPICS[topicSampler.sample(random)]).append(" 관련 ")
+                    .append(EVENTS[random.nextInt(EVENTS.length)]).append(" 소식을 전하며 ")
+                    .append(random.nextInt(100) + 1).append("% 변화를 언급했다. ");
+        }
+        return summary.toString().trim();
+    }
+
+    private LocalDateTime randomCreatedAt(Random random, LocalDateTime now, double[] hourlyCumulative) {
+        int hour = sampleCumulative(hourlyCumulative, random.nextDouble());
+        LocalDateTime day = now.toLocalDate().minusDays(random.nextInt(benchConfig.getDays())).atStartOfDay();
+        LocalDateTime createdAt = day.plusHours(hour).plusMinutes(random.nextInt(60)).plusSeconds(random.nextInt(60));
+        return createdAt.isAfter(now) ? now.minusMinutes(random.nextInt(60)) : createdAt;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int sampleCumulative(double[] cumulative, double u) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 순위 k의 확률이 1/k^s에 비례하는 표본 추출
+     */
+    private static final class ZipfSampler {
+
+        private final double[] cumulative;
+
+        ZipfSampler(int size, double exponent) {
+            double[] weights = new double[size];
+            for (int k = 0; k < size; k++) {
+                weights[k] = 1.0 / Math.pow(k + 1, exponent);
+            }
+            this.cumulative = SyntheticArticleGenerator.cumulative(weights);
+        }
+
+        int sample(Random random) {
+            return sampleCumulative(cumulative, random.nextDouble());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.newscrawler.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntPostingListTest {
+
+    @Test
+    void appendsInOrderAndSkipsDuplicateDoc() {
+        IntPostingList list = new IntPostingList();
+        for (int doc = 0; doc < 1_000; doc++) {
+            list.add(doc);
+            list.add(doc);
+        }
+
+        assertThat(list.size()).isEqualTo(1_000);
+        assertThat(list.get(999)).isEqualTo(999);
+        assertThat(list.toArray()).hasSize(1_000).startsWith(0, 1, 2);
+    }
+
+    @Test
+    void rejectsDecreasingDoc() {
+        IntPostingList list = of(5);
+
+        assertThatThrownBy(() -> list.add(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void intersectsFromShortestList() {
+        IntPostingList a = of(1, 3, 5, 7, 9);
+        IntPostingList b = of(3, 4, 5, 9);
+        IntPostingList c = of(0, 3, 9, 10);
+
+        assertThat(IntPostingList.intersect(List.of(a, b, c))).containsExactly(3, 9);
+        assertThat(IntPostingList.intersect(List.of(a, of(2, 4)))).isEmpty();
+        assertThat(IntPostingList.intersect(List.of(a))).containsExactly(1, 3, 5, 7, 9);
+        assertThat(IntPostingList.intersect(List.of())).isEmpty();
+    }
+
+    @Test
+    void unionMergesSortedArrays() {
+        assertThat(IntPostingList.union(new int[]{1, 3, 5}, new int[]{2, 3, 6})).containsExactly(1, 2, 3, 5, 6);
+        assertThat(IntPostingList.union(new int[0], new int[]{4})).containsExactly(4);
+    }
+
+    private static IntPostingList of(int... docs) {
+        IntPostingList list = new IntPostingList();
+        for (int doc : docs) {
+            list.add(doc);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,35 @@
+package com.newscrawler.search;
+
+import com.newscrawler.service.TextCleanupService;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordExtractorTest {
+
+    private final KeywordExtractor extractor = new KeywordExtractor(new TextCleanupService());
+
+    @Test
+    void stripsParticlesAndSkipsPredicates() {
+        assertThat(extractor.extract("삼성전자가 새 반도체를 공개했다", "<b>반도체</b> 시장에서 삼성전자는"))
+                .containsExactly("삼성전자", "반도체", "삼성전자 반도체", "시장");
+    }
+
+    @Test
+    void skipsStopwordsNumbersAndShortLatinWords() {
+        assertThat(extractor.extract("AI 기자 OpenAI 2024 발표", null))
+                .containsExactly("openai", "발표", "openai 발표");
+    }
+
+    @Test
+    void blankTextHasNoKeywords() {
+        assertThat(extractor.extract(null, " ")).isEmpty();
+    }
+
+    @Test
+    void normalizesPrefixLikeKeywords() {
+        assertThat(extractor.normalizePrefix("  삼성, 전자")).isEqualTo("삼성 전자");
+        assertThat(extractor.normalizePrefix("ＳＡＭＳＵＮＧ ")).isEqualTo("samsung ");
+        assertThat(extractor.normalizePrefix(null)).isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+package com.newscrawler.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanNgramTokenizerTest {
+
+    @Test
+    void splitsHangulWordsIntoBigramsAndKeepsLatinWords() {
+        assertThat(KoreanNgramTokenizer.tokenize("삼성전자가 AI 칩을"))
+                .containsExactly("삼성", "성전", "전자", "자가", "ai", "칩을");
+    }
+
+    @Test
+    void keepsSingleCharacterAndMixedWords() {
+        assertThat(KoreanNgramTokenizer.tokenize("칩")).containsExactly("칩");
+        assertThat(KoreanNgramTokenizer.tokenize("K리그")).containsExactly("k리", "리그");
+    }
+
+    @Test
+    void normalizesWidthAndCase() {
+        assertThat(KoreanNgramTokenizer.tokenize("ＯｐｅｎＡＩ, 2024!")).containsExactly("openai", "2024");
+    }
+
+    @Test
+    void blankTextHasNoTokens() {
+        assertThat(KoreanNgramTokenizer.tokenize(null)).isEmpty();
+        assertThat(KoreanNgramTokenizer.tokenize("  ")).isEmpty();
+    }
+
+    @Test
+    void queryTokensAreDistinctInOrder() {
+        assertThat(KoreanNgramTokenizer.tokenizeQuery("서울 서울시")).containsExactly("서울", "울시");
+    }
+
+    @Test
+    void indexTextIsPaddedForWordBoundaryLike() {
+        assertThat(KoreanNgramTokenizer.toIndexText("서울", "AI")).isEqualTo(" 서울 ai ");
+        assertThat(KoreanNgramTokenizer.toTsQuery(List.of("서울", "ai"))).isEqualTo("서울 & ai");
+    }
+}
@@ -0,0 +1,52 @@
+package com.newscrawler.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIntHashMapTest {
+
+    @Test
+    void putGetRemove() {
+        LongIntHashMap map = new LongIntHashMap();
+
+        assertThat(map.put(42L, 7)).isEqualTo(LongIntHashMap.MISSING);
+        assertThat(map.put(42L, 8)).isEqualTo(7);
+        assertThat(map.get(42L)).isEqualTo(8);
+        assertThat(map.get(43L)).isEqualTo(LongIntHashMap.MISSING);
+
+        assertThat(map.remove(42L)).isEqualTo(8);
+        assertThat(map.remove(42L)).isEqualTo(LongIntHashMap.MISSING);
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        // 좁은 키 범위로 충돌과 삭제 후 당겨오기가 자주 일어나게 함
+        Random random = new Random(7);
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000) * 1024L;
+            if (random.nextInt(3) == 0) {
+                Integer previous = expected.remove(key);
+                assertThat(map.remove(key)).isEqualTo(previous == null ? LongIntHashMap.MISSING : previous);
+            } else {
+                int value = random.nextInt(Integer.MAX_VALUE);
+                Integer previous = expected.put(key, value);
+                assertThat(map.put(key, value)).isEqualTo(previous == null ? LongIntHashMap.MISSING : previous);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 5_000 * 1024L; key += 1024) {
+            Integer value = expected.get(key);
+            assertThat(map.get(key)).isEqualTo(value == null ? LongIntHashMap.MISSING : value);
+        }
+    }
+}
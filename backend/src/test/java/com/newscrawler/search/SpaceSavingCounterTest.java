@@ -0,0 +1,64 @@
+package com.newscrawler.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingCounterTest {
+
+    @Test
+    void exactWhileUnderCapacity() {
+        SpaceSavingCounter counter = new SpaceSavingCounter(4);
+        counter.add("반도체", 3);
+        counter.add("금리", 1);
+        counter.add("반도체", 2);
+
+        Map<String, double[]> merged = new HashMap<>();
+        counter.mergeInto(merged, 1.0);
+
+        assertThat(counter.size()).isEqualTo(2);
+        assertThat(merged.get("반도체")).containsExactly(5.0, 0.0);
+        assertThat(merged.get("금리")).containsExactly(1.0, 0.0);
+    }
+
+    @Test
+    void estimatesStayWithinErrorBound() {
+        int capacity = 50;
+        int total = 100_000;
+        Random random = new Random(42);
+        SpaceSavingCounter counter = new SpaceSavingCounter(capacity);
+        Map<String, Long> exact = new HashMap<>();
+
+        // Zipf에 가까운 분포 (소수 항목이 대부분을 차지하고 긴 꼬리가 카운터를 계속 교체)
+        for (int i = 0; i < total; i++) {
+            String item = "k" + (int) Math.floor(Math.pow(1000, random.nextDouble()));
+            counter.add(item, 1L);
+            exact.merge(item, 1L, Long::sum);
+        }
+
+        Map<String, double[]> estimates = new HashMap<>();
+        counter.mergeInto(estimates, 1.0);
+        assertThat(counter.size()).isEqualTo(capacity);
+        assertThat(estimates.values().stream().mapToDouble(value -> value[0]).sum()).isEqualTo(total);
+
+        long maxError = total / capacity;
+        estimates.forEach((item, estimate) -> {
+            long count = (long) estimate[0];
+            long error = (long) estimate[1];
+            long actual = exact.get(item);
+            assertThat(error).isLessThanOrEqualTo(maxError);
+            assertThat(actual).isBetween(count - error, count);
+        });
+
+        // N / capacity보다 자주 나온 항목은 반드시 남아 있어야 함
+        exact.forEach((item, actual) -> {
+            if (actual > maxError) {
+                assertThat(estimates).containsKey(item);
+            }
+        });
+    }
+}
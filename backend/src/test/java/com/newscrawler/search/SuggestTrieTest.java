@@ -0,0 +1,98 @@
+package com.newscrawler.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestTrieTest {
+
+    private static final Map<String, Float> TERMS = Map.of(
+            "삼성", 5f,
+            "삼성전자", 9f,
+            "삼성바이오", 3f,
+            "삼척", 4f,
+            "서울", 8f);
+
+    @Test
+    void returnsOnlyTermsStartingWithPrefix() {
+        SuggestTrie trie = build(TERMS, 10);
+
+        assertThat(terms(trie.lookup("삼성", 10))).containsExactly("삼성전자", "삼성", "삼성바이오");
+        assertThat(terms(trie.lookup("삼성전자", 10))).containsExactly("삼성전자");
+        assertThat(trie.lookup("부산", 10)).isEmpty();
+        assertThat(trie.lookup("삼성전자우", 10)).isEmpty();
+    }
+
+    @Test
+    void ordersByScoreAcrossSubtrees() {
+        SuggestTrie trie = build(TERMS, 10);
+
+        List<SuggestTrie.Suggestion> suggestions = trie.lookup("삼", 10);
+
+        assertThat(terms(suggestions)).containsExactly("삼성전자", "삼성", "삼척", "삼성바이오");
+        assertThat(suggestions.get(0).score()).isEqualTo(9.0);
+        assertThat(terms(trie.lookup("", 10))).containsExactly("삼성전자", "서울", "삼성", "삼척", "삼성바이오");
+    }
+
+    @Test
+    void capsResultsAtTopK() {
+        SuggestTrie trie = build(TERMS, 2);
+
+        assertThat(terms(trie.lookup("삼", 10))).containsExactly("삼성전자", "삼성");
+        assertThat(terms(trie.lookup("삼", 1))).containsExactly("삼성전자");
+        assertThat(trie.termCount()).isEqualTo(5);
+    }
+
+    @Test
+    void emptyTrieHasNoSuggestions() {
+        assertThat(SuggestTrie.empty().lookup("삼성", 5)).isEmpty();
+        assertThat(SuggestTrie.empty().termCount()).isZero();
+    }
+
+    @Test
+    void matchesBruteForceTopK() {
+        // 작은 알파벳으로 공통 접두어가 많은 용어를 만들고, 점수는 겹치지 않게 섞음
+        Random random = new Random(11);
+        Map<String, Float> scored = new TreeMap<>();
+        while (scored.size() < 2_000) {
+            StringBuilder term = new StringBuilder();
+            int length = 1 + random.nextInt(6);
+            for (int i = 0; i < length; i++) {
+                term.append("가나다라".charAt(random.nextInt(4)));
+            }
+            scored.putIfAbsent(term.toString(), (float) scored.size());
+        }
+        int topK = 5;
+        SuggestTrie trie = build(scored, topK);
+
+        for (String prefix : List.of("", "가", "나", "가나", "다라가", "라라라라")) {
+            List<String> expected = scored.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix))
+                    .sorted(Map.Entry.<String, Float>comparingByValue(Comparator.reverseOrder()))
+                    .limit(topK)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            assertThat(terms(trie.lookup(prefix, topK))).as(prefix).isEqualTo(expected);
+        }
+    }
+
+    private static SuggestTrie build(Map<String, Float> scored, int topK) {
+        List<String> sortedTerms = new ArrayList<>(new TreeMap<>(scored).keySet());
+        float[] scores = new float[sortedTerms.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = scored.get(sortedTerms.get(i));
+        }
+        return SuggestTrie.build(sortedTerms, scores, topK);
+    }
+
+    private static List<String> terms(List<SuggestTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestTrie.Suggestion::term).toList();
+    }
+}
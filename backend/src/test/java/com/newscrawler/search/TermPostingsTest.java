@@ -0,0 +1,23 @@
+package com.newscrawler.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TermPostingsTest {
+
+    @Test
+    void keepsPostingListsAcrossResize() {
+        TermPostings postings = new TermPostings();
+
+        for (int i = 0; i < 10_000; i++) {
+            postings.getOrCreate("토큰" + i).add(i);
+        }
+        postings.getOrCreate("토큰0").add(10_000);
+
+        assertThat(postings.size()).isEqualTo(10_000);
+        assertThat(postings.get("토큰0").toArray()).containsExactly(0, 10_000);
+        assertThat(postings.get("토큰9999").toArray()).containsExactly(9_999);
+        assertThat(postings.get("없는토큰")).isNull();
+    }
+}
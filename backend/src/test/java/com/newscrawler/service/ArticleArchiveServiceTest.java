@@ -0,0 +1,101 @@
+package com.newscrawler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newscrawler.config.ArchiveConfig;
+import com.newscrawler.dto.ArchivedArticle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleArchiveServiceTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    @TempDir
+    Path directory;
+
+    private ArticleArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        ArchiveConfig config = new ArchiveConfig();
+        config.setDirectory(directory.toString());
+        archiveService = new ArticleArchiveService(config, new ObjectMapper().findAndRegisterModules());
+
+        // 10일 × 하루 5건, 발행 시각은 수집 시각과 같은 날
+        List<ArchivedArticle> articles = new ArrayList<>();
+        long id = 1;
+        for (int day = 0; day < 10; day++) {
+            for (int hour = 0; hour < 5; hour++) {
+                LocalDateTime createdAt = FIRST_DAY.plusDays(day).atTime(hour + 1, 0);
+                articles.add(article(id++, createdAt, createdAt.minusMinutes(30)));
+            }
+        }
+        archiveService.archive(articles);
+    }
+
+    @Test
+    void returnsTopArticlesNewestFirstWithTotalCount() {
+        ArticleArchiveService.ArchivedPage page = archiveService.findArchivedTop(
+                FIRST_DAY.atStartOfDay(), FIRST_DAY.plusDays(9).atTime(23, 59), 7);
+
+        assertThat(page.totalCount()).isEqualTo(50);
+        assertThat(page.top()).extracting(ArchivedArticle::getId)
+                .containsExactly(50L, 49L, 48L, 47L, 46L, 45L, 44L);
+    }
+
+    @Test
+    void countsOnlyArticlesInsidePartiallyCoveredBoundaryDays() {
+        ArticleArchiveService.ArchivedPage page = archiveService.findArchivedTop(
+                FIRST_DAY.atTime(3, 0), FIRST_DAY.plusDays(1).atTime(2, 0), 10);
+
+        // 첫날 3~5시 3건 + 둘째 날 1~2시 2건
+        assertThat(page.totalCount()).isEqualTo(5);
+        assertThat(page.top()).extracting(ArchivedArticle::getId).containsExactly(7L, 6L, 5L, 4L, 3L);
+    }
+
+    @Test
+    void placesArticlesWithoutPublishedAtLast() {
+        LocalDateTime createdAt = FIRST_DAY.plusDays(20).atTime(9, 0);
+        archiveService.archive(List.of(article(100, createdAt, null), article(101, createdAt.plusHours(1), createdAt)));
+
+        ArticleArchiveService.ArchivedPage page = archiveService.findArchivedTop(
+                createdAt.toLocalDate().atStartOfDay(), createdAt.toLocalDate().atTime(23, 59), 10);
+
+        assertThat(page.top()).extracting(ArchivedArticle::getId).containsExactly(101L, 100L);
+    }
+
+    @Test
+    void writesDaySummaryNextToEachArchiveFile() {
+        assertThat(Files.exists(directory.resolve("dt=" + FIRST_DAY).resolve("index.json"))).isTrue();
+
+        archiveService.archive(List.of(article(200, FIRST_DAY.atTime(12, 0), FIRST_DAY.atTime(11, 0))));
+
+        ArticleArchiveService.ArchivedPage page = archiveService.findArchivedTop(
+                FIRST_DAY.atStartOfDay(), FIRST_DAY.atTime(23, 59), 1);
+        assertThat(page.totalCount()).isEqualTo(6);
+        assertThat(page.top()).extracting(ArchivedArticle::getId).containsExactly(200L);
+    }
+
+    private static ArchivedArticle article(long id, LocalDateTime createdAt, LocalDateTime publishedAt) {
+        return ArchivedArticle.builder()
+                .id(id)
+                .title("기사 " + id)
+                .summary("요약")
+                .source("테스트")
+                .category("일반")
+                .link("https://news.test/" + id)
+                .publishedAt(publishedAt)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.newscrawler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newscrawler.config.IngestBufferConfig;
+import com.newscrawler.entity.Article;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArticleIngestBufferTest {
+
+    @TempDir
+    Path journalDirectory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<ArticleIngestBuffer> started = new ArrayList<>();
+
+    private ArticleIngestService ingestService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        ingestService = mock(ArticleIngestService.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (ArticleIngestBuffer buffer : started) {
+            buffer.shutdown();
+        }
+    }
+
+    @Test
+    void flushesAsSoonAsBatchSizeIsReached() throws Exception {
+        ArticleIngestBuffer buffer = start(config(3, 60_000));
+
+        buffer.submit(articles("size", 3));
+
+        List<Article> flushed = captureSingleFlush(1000);
+        assertThat(flushed).extracting(Article::getLink)
+                .containsExactly("https://news.test/size/0", "https://news.test/size/1", "https://news.test/size/2");
+    }
+
+    @Test
+    void flushesPartialBatchAfterInterval() throws Exception {
+        ArticleIngestBuffer buffer = start(config(100, 500));
+
+        buffer.submit(articles("interval", 2));
+
+        verify(ingestService, after(200).never()).ingest(anyList());
+        assertThat(captureSingleFlush(3000)).hasSize(2);
+    }
+
+    @Test
+    void replaysJournalAfterRestart() throws Exception {
+        IngestBufferConfig config = config(10, 100);
+
+        // 저장 스레드를 시작하지 않은 채 종료 = 저장 전에 프로세스가 내려간 경우
+        ArticleIngestBuffer crashed = new ArticleIngestBuffer(config, ingestService, objectMapper, meterRegistry);
+        crashed.initialize();
+        crashed.submit(articles("journal", 3));
+        crashed.shutdown();
+        verify(ingestService, never()).ingest(anyList());
+
+        SimpleMeterRegistry restartedRegistry = new SimpleMeterRegistry();
+        ArticleIngestBuffer restarted = new ArticleIngestBuffer(config, ingestService, objectMapper, restartedRegistry);
+        restarted.initialize();
+        assertThat(restartedRegistry.counter("ingest.buffer.journal.replayed").count()).isEqualTo(3.0);
+
+        restarted.startWriter();
+        started.add(restarted);
+
+        assertThat(captureSingleFlush(3000)).extracting(Article::getLink)
+                .containsExactly("https://news.test/journal/0", "https://news.test/journal/1", "https://news.test/journal/2");
+        awaitUntil(() -> journalSize() == 0, 3000);
+    }
+
+    @Test
+    void movesExhaustedBatchToDeadLetterInsteadOfDropping() throws Exception {
+        when(ingestService.ingest(anyList())).thenThrow(new IllegalStateException("db down"));
+        ArticleIngestBuffer buffer = start(config(2, 20));
+
+        buffer.submit(articles("dead", 2));
+
+        Path deadLetter = journalDirectory.resolve(ArticleIngestBuffer.DEAD_LETTER_FILE_NAME);
+        awaitUntil(() -> meterRegistry.counter("ingest.buffer.dead.lettered").count() == 2.0, 5000);
+        verify(ingestService, times(5)).ingest(anyList());
+        assertThat(Files.readAllLines(deadLetter))
+                .hasSize(2)
+                .anySatisfy(line -> assertThat(line).contains("https://news.test/dead/0"))
+                .anySatisfy(line -> assertThat(line).contains("https://news.test/dead/1"));
+        awaitUntil(() -> journalSize() == 0, 3000);
+    }
+
+    private ArticleIngestBuffer start(IngestBufferConfig config) throws Exception {
+        ArticleIngestBuffer buffer = new ArticleIngestBuffer(config, ingestService, objectMapper, meterRegistry);
+        buffer.initialize();
+        buffer.startWriter();
+        started.add(buffer);
+        return buffer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Article> captureSingleFlush(long timeoutMs) {
+        ArgumentCaptor<List<Article>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ingestService, timeout(timeoutMs)).ingest(captor.capture());
+        return new ArrayList<>(captor.getValue());
+    }
+
+    private IngestBufferConfig config(int batchSize, long flushIntervalMs) {
+        IngestBufferConfig config = new IngestBufferConfig();
+        config.setCapacity(100);
+        config.setBatchSize(batchSize);
+        config.setFlushIntervalMs(flushIntervalMs);
+        config.setJournalDirectory(journalDirectory.toString());
+        return config;
+    }
+
+    private long journalSize() {
+        try {
+            return Files.size(journalDirectory.resolve(ArticleIngestBuffer.JOURNAL_FILE_NAME));
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static List<Article> articles(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Article.builder()
+                        .title(prefix + " 기사 " + i)
+                        .summary("요약 " + i)
+                        .source("테스트")
+                        .category("일반")
+                        .link("https://news.test/" + prefix + "/" + i)
+                        .publishedAt(LocalDateTime.of(2024, 1, 1, 9, i))
+                        .createdAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                        .build())
+                .toList();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 " + timeoutMs + "ms 안에 만족하지 못했습니다");
+            }
+            Thread.sleep(20);
+        }
+    }
+}